@@ -2,16 +2,30 @@ package scm.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import scm.address.commons.core.Config;
+import scm.address.commons.core.DataFileFormat;
 import scm.address.commons.core.LogsCenter;
 import scm.address.commons.core.Version;
 import scm.address.commons.exceptions.DataLoadingException;
 import scm.address.commons.util.ConfigUtil;
+import scm.address.commons.util.FileUtil;
 import scm.address.commons.util.StringUtil;
 import scm.address.logic.Logic;
 import scm.address.logic.LogicManager;
@@ -25,8 +39,7 @@ import scm.address.model.ScheduleList;
 import scm.address.model.UserPrefs;
 import scm.address.model.util.SampleDataUtil;
 import scm.address.storage.AddressBookStorage;
-import scm.address.storage.JsonAddressBookStorage;
-import scm.address.storage.JsonScheduleStorage;
+import scm.address.storage.DataFileConverter;
 import scm.address.storage.JsonUserPrefsStorage;
 import scm.address.storage.ScheduleStorage;
 import scm.address.storage.Storage;
@@ -43,6 +56,13 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 2, 2, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int STARTUP_THREAD_COUNT = 2;
+    private static final String STARTUP_THREAD_NAME = "startup-loader";
+    private static final String DATA_LOADER_THREAD_NAME = "data-loader";
+    private static final int LOADING_BATCH_SIZE = 1000;
+    private static final String MESSAGE_LOADING = "Loading data...";
+    private static final String MESSAGE_LOADING_PROGRESS = "Loading %1$s: %2$d/%3$d";
+    private static final String MESSAGE_LOADING_FAILED = "Failed to load data, see the log for details";
 
     protected Ui ui;
     protected Logic logic;
@@ -54,59 +74,234 @@ public class MainApp extends Application {
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        long initStartTime = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = logDuration("Loading config", () -> initConfig(appParameters.getConfigPath()));
         initLogging(config);
+        FileUtil.setSyncOnWriteEnabled(config.isSyncOnSaveEnabled());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleStorage scheduleStorage = new JsonScheduleStorage(userPrefs.getScheduleListFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleStorage);
+        UserPrefs userPrefs = logDuration("Loading preferences", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, config);
+        ScheduleStorage scheduleStorage = initScheduleStorage(userPrefs, config);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleStorage, config);
 
-        model = initModelManager(storage, userPrefs);
+        // The data is loaded in the background once the main window is showing, see start(Stage)
+        model = new ModelManager(new AddressBook(), userPrefs, new ScheduleList());
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        logger.info("Initialization took " + getMillisSince(initStartTime) + " ms");
+    }
+
+    private static Thread createStartupThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, STARTUP_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Runs {@code phase} and logs how long it took.
+     */
+    private static <T> T logDuration(String phaseName, Callable<T> phase) throws Exception {
+        long startTime = System.nanoTime();
+        T result = phase.call();
+        logger.info(phaseName + " took " + getMillisSince(startTime) + " ms");
+        return result;
+    }
+
+    private static long getMillisSince(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the result of a data loading task run on the startup executor.
+     *
+     * @throws DataLoadingException if the task failed to load the data or was interrupted.
+     */
+    private static <T> T getLoadingResult(Future<T> loadingTask) throws DataLoadingException {
+        try {
+            return loadingTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the storage for the address book in the data file format chosen in {@code userPrefs}.
+     * If there is no data file in that format yet, the data file in another format, if any, is converted to it.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs, Config config) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = DataFileConverter.createAddressBookStorage(jsonFilePath,
+                userPrefs.getDataFileFormat(), config.isPrettyPrintDataEnabled());
+        for (DataFileFormat format : DataFileFormat.values()) {
+            if (format == userPrefs.getDataFileFormat()) {
+                continue;
+            }
+
+            AddressBookStorage source = DataFileConverter.createAddressBookStorage(jsonFilePath, format,
+                    config.isPrettyPrintDataEnabled());
+            try {
+                DataFileConverter.convertAddressBook(source, addressBookStorage);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not convert " + source.getAddressBookFilePath() + " to "
+                        + addressBookStorage.getAddressBookFilePath() + ": " + StringUtil.getDetails(e));
+            }
+        }
+        return addressBookStorage;
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s contact manager and {@code userPrefs}. <br>
+     * Returns the storage for the schedule list in the data file format chosen in {@code userPrefs}.
+     * If there is no data file in that format yet, the data file in another format, if any, is converted to it.
+     */
+    private ScheduleStorage initScheduleStorage(ReadOnlyUserPrefs userPrefs, Config config) {
+        Path jsonFilePath = userPrefs.getScheduleListFilePath();
+        ScheduleStorage scheduleStorage = DataFileConverter.createScheduleStorage(jsonFilePath,
+                userPrefs.getDataFileFormat(), config.isPrettyPrintDataEnabled());
+        for (DataFileFormat format : DataFileFormat.values()) {
+            if (format == userPrefs.getDataFileFormat()) {
+                continue;
+            }
+
+            ScheduleStorage source = DataFileConverter.createScheduleStorage(jsonFilePath, format,
+                    config.isPrettyPrintDataEnabled());
+            try {
+                DataFileConverter.convertScheduleList(source, scheduleStorage);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not convert " + source.getScheduleStorageFilePath() + " to "
+                        + scheduleStorage.getScheduleStorageFilePath() + ": " + StringUtil.getDetails(e));
+            }
+        }
+        return scheduleStorage;
+    }
+
+    /**
+     * Loads the data from {@code storage}'s contact manager into the model, in batches so that the main window
+     * shows the data as it is added. Runs on the data loading thread, and changes the model and the UI on the
+     * thread {@code fxThread} runs tasks on. <br>
      * The data from the sample contact manager will be used instead if {@code storage}'s contact manager is not found,
      * or an empty contact manager will be used instead if errors occur when reading {@code storage}'s contact manager.
+     * Changes recorded in the journals of the data files are replayed on top of the data read.
+     * The address book and the schedule list are read concurrently. <br>
+     * If the data read cannot be added to the model, the UI is told that loading failed.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    void loadData(Executor fxThread) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
         logger.info("Using schedule list file: " + storage.getScheduleStorageFilePath());
+        long loadingStartTime = System.nanoTime();
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyScheduleList> scheduleListOptional;
-        ReadOnlyAddressBook initialData;
-        ReadOnlyScheduleList initialSchedules;
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_COUNT,
+                MainApp::createStartupThread);
         try {
-            addressBookOptional = storage.readAddressBook();
-            scheduleListOptional = storage.readScheduleList();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
+            Future<Optional<ReadOnlyAddressBook>> addressBookTask = startupExecutor.submit(() ->
+                    logDuration("Reading address book", () -> loadAddressBook(storage)));
+            Future<Optional<ReadOnlyScheduleList>> scheduleListTask = startupExecutor.submit(() ->
+                    logDuration("Reading schedule list", () -> loadScheduleList(storage)));
+
+            ReadOnlyAddressBook initialData;
+            ReadOnlyScheduleList initialSchedules;
+            try {
+                Optional<ReadOnlyAddressBook> addressBookOptional = getLoadingResult(addressBookTask);
+                Optional<ReadOnlyScheduleList> scheduleListOptional = getLoadingResult(scheduleListTask);
+                if (!addressBookOptional.isPresent()) {
+                    logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                            + " populated with a sample AddressBook.");
+                }
+
+                if (!scheduleListOptional.isPresent()) {
+                    logger.info("Creating a new schedule list file " + storage.getScheduleStorageFilePath());
+                }
 
-            if (!scheduleListOptional.isPresent()) {
-                logger.info("Creating a new schedule list file " + storage.getScheduleStorageFilePath());
+                initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+                initialSchedules = scheduleListOptional.orElseGet(SampleDataUtil::getSampleScheduleList);
+            } catch (DataLoadingException | RuntimeException e) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook: " + StringUtil.getDetails(e));
+                initialData = new AddressBook();
+                initialSchedules = new ScheduleList();
             }
 
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-            initialSchedules = scheduleListOptional.orElseGet(SampleDataUtil::getSampleScheduleList);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-            initialSchedules = new ScheduleList();
+            addInBatches(fxThread, "persons", initialData.getPersonList(), model::addPersons);
+            addInBatches(fxThread, "schedules", initialSchedules.getScheduleList(), model::addSchedules);
+            runOnFxThreadAndWait(fxThread, () -> {
+                storage.attachJournals(model.getAddressBook(), model.getScheduleList());
+                ui.handleDataLoaded();
+            });
+            logger.info("Loading data took " + getMillisSince(loadingStartTime) + " ms");
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while loading data");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            // Commands using the data are rejected, so the partially loaded data is never saved over the data files
+            logger.severe("Failed to load data: " + StringUtil.getDetails(e));
+            fxThread.execute(() -> ui.handleDataLoadingFailure(MESSAGE_LOADING_FAILED));
+        } finally {
+            startupExecutor.shutdown();
         }
+    }
 
-        return new ModelManager(initialData, userPrefs, initialSchedules);
+    /**
+     * Adds {@code elements} to the model with {@code adder} on the JavaFX application thread, a batch at a time,
+     * and shows the progress made after each batch.
+     */
+    private <T> void addInBatches(Executor fxThread, String elementsName, List<T> elements, Consumer<List<T>> adder)
+            throws InterruptedException, ExecutionException {
+        int totalCount = elements.size();
+        for (int from = 0; from < totalCount; from += LOADING_BATCH_SIZE) {
+            List<T> batch = new ArrayList<>(elements.subList(from, Math.min(from + LOADING_BATCH_SIZE, totalCount)));
+            String status = String.format(MESSAGE_LOADING_PROGRESS, elementsName, from + batch.size(), totalCount);
+            runOnFxThreadAndWait(fxThread, () -> {
+                adder.accept(batch);
+                ui.showDataLoadingStatus(status);
+            });
+        }
+    }
+
+    /**
+     * Runs {@code task} on the thread {@code fxThread} runs tasks on and waits for it to complete.
+     *
+     * @throws ExecutionException if {@code task} threw an exception.
+     */
+    private static void runOnFxThreadAndWait(Executor fxThread, Runnable task)
+            throws InterruptedException, ExecutionException {
+        FutureTask<Void> futureTask = new FutureTask<>(task, null);
+        fxThread.execute(futureTask);
+        futureTask.get();
+    }
+
+    /**
+     * Reads the address book from {@code storage} with the changes recorded in its journal replayed.
+     */
+    private static Optional<ReadOnlyAddressBook> loadAddressBook(Storage storage) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+        if (!addressBookOptional.isPresent()) {
+            return addressBookOptional;
+        }
+        return Optional.of(storage.replayAddressBookJournal(addressBookOptional.get()));
+    }
+
+    /**
+     * Reads the schedule list from {@code storage} with the changes recorded in its journal replayed.
+     */
+    private static Optional<ReadOnlyScheduleList> loadScheduleList(Storage storage) throws DataLoadingException {
+        Optional<ReadOnlyScheduleList> scheduleListOptional = storage.readScheduleList();
+        if (!scheduleListOptional.isPresent()) {
+            return scheduleListOptional;
+        }
+        return Optional.of(storage.replayScheduleListJournal(scheduleListOptional.get()));
     }
 
     private void initLogging(Config config) {
@@ -144,6 +339,7 @@ public class MainApp extends Application {
         }
 
         //Update config file in case it was missing to begin with or there are new/unused fields
+        //The file is left untouched if its content would not change
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
         } catch (IOException e) {
@@ -175,6 +371,7 @@ public class MainApp extends Application {
         }
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
+        //The file is left untouched if its content would not change
         try {
             storage.saveUserPrefs(initializedPrefs);
         } catch (IOException e) {
@@ -188,11 +385,19 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        ui.showDataLoadingStatus(MESSAGE_LOADING);
+
+        Thread dataLoader = new Thread(() -> loadData(Platform::runLater), DATA_LOADER_THREAD_NAME);
+        dataLoader.setDaemon(true);
+        dataLoader.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        // The commands still running save the data too, so they must complete before the saves are flushed
+        logic.shutdown();
+        storage.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean writeBehindSaveEnabled = true;
+    private boolean journalEnabled = true;
+    private long journalCompactionThreshold = 1024 * 1024;
+    private boolean prettyPrintDataEnabled = true;
+    private boolean syncOnSaveEnabled = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isWriteBehindSaveEnabled() {
+        return writeBehindSaveEnabled;
+    }
+
+    public void setWriteBehindSaveEnabled(boolean writeBehindSaveEnabled) {
+        this.writeBehindSaveEnabled = writeBehindSaveEnabled;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(long journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public boolean isPrettyPrintDataEnabled() {
+        return prettyPrintDataEnabled;
+    }
+
+    public void setPrettyPrintDataEnabled(boolean prettyPrintDataEnabled) {
+        this.prettyPrintDataEnabled = prettyPrintDataEnabled;
+    }
+
+    public boolean isSyncOnSaveEnabled() {
+        return syncOnSaveEnabled;
+    }
+
+    public void setSyncOnSaveEnabled(boolean syncOnSaveEnabled) {
+        this.syncOnSaveEnabled = syncOnSaveEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +92,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehindSaveEnabled == otherConfig.writeBehindSaveEnabled
+                && journalEnabled == otherConfig.journalEnabled
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && prettyPrintDataEnabled == otherConfig.prettyPrintDataEnabled
+                && syncOnSaveEnabled == otherConfig.syncOnSaveEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindSaveEnabled, journalEnabled,
+                journalCompactionThreshold, prettyPrintDataEnabled, syncOnSaveEnabled);
     }
 
     @Override
@@ -60,6 +111,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehindSaveEnabled", writeBehindSaveEnabled)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("prettyPrintDataEnabled", prettyPrintDataEnabled)
+                .add("syncOnSaveEnabled", syncOnSaveEnabled)
                 .toString();
     }
 
@@ -0,0 +1,41 @@
+package scm.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The formats in which the address book and schedule list data files can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON(".json"),
+    /** Compact binary snapshots, which are faster to load and save. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns {@code filePath} with its extension replaced by the extension of this format.
+     * Only the extensions of the known formats are replaced, other extensions are kept.
+     */
+    public Path toFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        for (DataFileFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension)) {
+                fileName = fileName.substring(0, fileName.length() - format.fileExtension.length());
+                break;
+            }
+        }
+        return filePath.resolveSibling(fileName + fileExtension);
+    }
+}
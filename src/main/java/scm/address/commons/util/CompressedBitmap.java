@@ -0,0 +1,437 @@
+package scm.address.commons.util;
+
+import static scm.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.TreeMap;
+
+/**
+ * A set of non-negative integers, stored compactly for both sparse and dense sets.
+ * <p>
+ * The integers are split by their upper 16 bits into chunks. A chunk of at most {@value #MAX_ARRAY_CARDINALITY}
+ * integers is stored as a sorted array of their lower 16 bits, and a larger chunk as a bitmap of 2^16 bits,
+ * so no chunk takes more than 8 KB and a sparse chunk takes 2 bytes per integer.
+ */
+public class CompressedBitmap {
+
+    public static final String MESSAGE_NEGATIVE_VALUE = "Bitmap values cannot be negative";
+
+    static final int MAX_ARRAY_CARDINALITY = 4096;
+    private static final int CHUNK_BITS = 16;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_BITS) / Long.SIZE;
+
+    private final TreeMap<Integer, Chunk> chunks = new TreeMap<>();
+    private int cardinality;
+
+    /**
+     * Adds {@code value} to the set and returns true if it was not already in the set.
+     */
+    public boolean add(int value) {
+        checkArgument(value >= 0, MESSAGE_NEGATIVE_VALUE);
+        boolean isAdded = chunks.computeIfAbsent(high(value), unused -> new Chunk()).add(low(value));
+        if (isAdded) {
+            cardinality++;
+        }
+        return isAdded;
+    }
+
+    /**
+     * Removes {@code value} from the set and returns true if it was in the set.
+     */
+    public boolean remove(int value) {
+        Chunk chunk = value < 0 ? null : chunks.get(high(value));
+        if (chunk == null || !chunk.remove(low(value))) {
+            return false;
+        }
+
+        if (chunk.cardinality == 0) {
+            chunks.remove(high(value));
+        }
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        Chunk chunk = value < 0 ? null : chunks.get(high(value));
+        return chunk != null && chunk.contains(low(value));
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Removes all values from the set.
+     */
+    public void clear() {
+        chunks.clear();
+        cardinality = 0;
+    }
+
+    /**
+     * Returns a new set of the same values as this set.
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap result = new CompressedBitmap();
+        chunks.forEach((high, chunk) -> result.putChunk(high, chunk.copy()));
+        return result;
+    }
+
+    /**
+     * Returns a new set of the values in both this set and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Chunk> entry : chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            if (otherChunk != null) {
+                result.putChunk(entry.getKey(), entry.getValue().and(otherChunk));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the values in this set, {@code other} or both.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Chunk> entry : chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            result.putChunk(entry.getKey(), otherChunk == null ? entry.getValue().copy()
+                    : entry.getValue().or(otherChunk));
+        }
+        for (Map.Entry<Integer, Chunk> entry : other.chunks.entrySet()) {
+            if (!chunks.containsKey(entry.getKey())) {
+                result.putChunk(entry.getKey(), entry.getValue().copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the values in this set that are not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Chunk> entry : chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            result.putChunk(entry.getKey(), otherChunk == null ? entry.getValue().copy()
+                    : entry.getValue().andNot(otherChunk));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the values of the set in ascending order.
+     * The set must not be changed while the iterator is in use.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        Iterator<Map.Entry<Integer, Chunk>> chunkIterator = chunks.entrySet().iterator();
+        return new PrimitiveIterator.OfInt() {
+            private int high;
+            private Chunk chunk;
+            private int lastLow = -1;
+            private int nextLow = -1;
+
+            @Override
+            public boolean hasNext() {
+                while (nextLow < 0) {
+                    if (chunk != null) {
+                        nextLow = chunk.nextLow(lastLow + 1);
+                        if (nextLow >= 0) {
+                            break;
+                        }
+                    }
+                    if (!chunkIterator.hasNext()) {
+                        chunk = null;
+                        return false;
+                    }
+
+                    Map.Entry<Integer, Chunk> entry = chunkIterator.next();
+                    high = entry.getKey();
+                    chunk = entry.getValue();
+                    lastLow = -1;
+                }
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastLow = nextLow;
+                nextLow = -1;
+                return (high << CHUNK_BITS) | lastLow;
+            }
+        };
+    }
+
+    private void putChunk(int high, Chunk chunk) {
+        if (chunk.cardinality > 0) {
+            chunks.put(high, chunk);
+            cardinality += chunk.cardinality;
+        }
+    }
+
+    private static int high(int value) {
+        return value >>> CHUNK_BITS;
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    /**
+     * The lower 16 bits of the values that share their upper 16 bits, stored either as a sorted array
+     * or as a bitmap, whichever is smaller.
+     */
+    private static class Chunk {
+        private char[] values = new char[4];
+        private long[] words;
+        private int cardinality;
+
+        boolean add(char low) {
+            if (words != null) {
+                long mask = 1L << low;
+                if ((words[low >>> 6] & mask) != 0) {
+                    return false;
+                }
+                words[low >>> 6] |= mask;
+                cardinality++;
+                return true;
+            }
+
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return false;
+            }
+            if (cardinality == MAX_ARRAY_CARDINALITY) {
+                words = toWords();
+                values = null;
+                return add(low);
+            }
+
+            int insertionPoint = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, MAX_ARRAY_CARDINALITY));
+            }
+            System.arraycopy(values, insertionPoint, values, insertionPoint + 1, cardinality - insertionPoint);
+            values[insertionPoint] = low;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (words != null) {
+                long mask = 1L << low;
+                if ((words[low >>> 6] & mask) == 0) {
+                    return false;
+                }
+                words[low >>> 6] &= ~mask;
+                cardinality--;
+                if (cardinality <= MAX_ARRAY_CARDINALITY) {
+                    values = toValues(words, cardinality);
+                    words = null;
+                }
+                return true;
+            }
+
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        /**
+         * Returns the smallest value in the chunk that is at least {@code from}, or -1 if there is none.
+         */
+        int nextLow(int from) {
+            if (from > Character.MAX_VALUE) {
+                return -1;
+            }
+            if (words != null) {
+                int wordIndex = from >>> 6;
+                long word = words[wordIndex] & (-1L << from);
+                while (word == 0) {
+                    if (++wordIndex == WORDS_PER_CHUNK) {
+                        return -1;
+                    }
+                    word = words[wordIndex];
+                }
+                return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            int nextIndex = index >= 0 ? index : -index - 1;
+            return nextIndex < cardinality ? values[nextIndex] : -1;
+        }
+
+        Chunk and(Chunk other) {
+            if (words == null && other.words == null) {
+                char[] result = new char[Math.min(cardinality, other.cardinality)];
+                int size = 0;
+                for (int i = 0, j = 0; i < cardinality && j < other.cardinality;) {
+                    if (values[i] < other.values[j]) {
+                        i++;
+                    } else if (values[i] > other.values[j]) {
+                        j++;
+                    } else {
+                        result[size++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return fromValues(result, size);
+            }
+            if (words == null || other.words == null) {
+                // Tests the values of the array against the bitmap
+                Chunk array = words == null ? this : other;
+                Chunk bitmap = words == null ? other : this;
+                char[] result = new char[array.cardinality];
+                int size = 0;
+                for (int i = 0; i < array.cardinality; i++) {
+                    if (bitmap.contains(array.values[i])) {
+                        result[size++] = array.values[i];
+                    }
+                }
+                return fromValues(result, size);
+            }
+
+            long[] result = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                result[i] = words[i] & other.words[i];
+            }
+            return fromWords(result);
+        }
+
+        Chunk or(Chunk other) {
+            if (words == null && other.words == null
+                    && cardinality + other.cardinality <= MAX_ARRAY_CARDINALITY) {
+                char[] result = new char[cardinality + other.cardinality];
+                int size = 0;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality || j < other.cardinality) {
+                    if (j == other.cardinality || i < cardinality && values[i] < other.values[j]) {
+                        result[size++] = values[i++];
+                    } else if (i == cardinality || values[i] > other.values[j]) {
+                        result[size++] = other.values[j++];
+                    } else {
+                        result[size++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return fromValues(result, size);
+            }
+
+            long[] result = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                result[i] |= otherWords[i];
+            }
+            return fromWords(result);
+        }
+
+        Chunk andNot(Chunk other) {
+            if (words == null) {
+                char[] result = new char[cardinality];
+                int size = 0;
+                for (int i = 0; i < cardinality; i++) {
+                    if (!other.contains(values[i])) {
+                        result[size++] = values[i];
+                    }
+                }
+                return fromValues(result, size);
+            }
+
+            long[] result = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                result[i] &= ~otherWords[i];
+            }
+            return fromWords(result);
+        }
+
+        Chunk copy() {
+            Chunk copy = new Chunk();
+            copy.values = values == null ? null : Arrays.copyOf(values, Math.max(cardinality, 1));
+            copy.words = words == null ? null : words.clone();
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        /**
+         * Returns the chunk as a bitmap, which is a copy of the chunk's own bitmap if it has one.
+         */
+        private long[] toWords() {
+            if (words != null) {
+                return words.clone();
+            }
+
+            long[] result = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < cardinality; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+
+        private static char[] toValues(long[] words, int cardinality) {
+            char[] result = new char[Math.max(cardinality, 1)];
+            int size = 0;
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    result[size++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return result;
+        }
+
+        private static Chunk fromValues(char[] values, int cardinality) {
+            Chunk chunk = new Chunk();
+            chunk.values = values.length == 0 ? new char[1] : values;
+            chunk.cardinality = cardinality;
+            return chunk;
+        }
+
+        private static Chunk fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+
+            Chunk chunk = new Chunk();
+            chunk.cardinality = cardinality;
+            if (cardinality > MAX_ARRAY_CARDINALITY) {
+                chunk.values = null;
+                chunk.words = words;
+            } else {
+                chunk.values = toValues(words, cardinality);
+            }
+            return chunk;
+        }
+    }
+}
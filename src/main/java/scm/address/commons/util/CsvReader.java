@@ -0,0 +1,210 @@
+package scm.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of comma-separated values, as described by RFC 4180, from a character stream.
+ * The stream is read in a single pass, a buffer at a time. Fields may be enclosed in double quotes, in which case
+ * they may contain commas, line breaks and double quotes escaped by doubling them. Records may end with CRLF, LF
+ * or CR, blank lines are skipped and a byte order mark at the start of the stream is ignored.
+ * <p>
+ * A double quote inside an unquoted field is read as part of the field, but the stream is rejected if a quoted
+ * field is not closed, or a closing quote is followed by anything but a comma or the end of the record.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Quoted field starting on line %1$d is not closed";
+    public static final String MESSAGE_CHARACTER_AFTER_QUOTE =
+            "Unexpected character '%1$c' after a closing quote on line %2$d";
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int END_OF_STREAM = -1;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * The states of the reader between characters of a record.
+     */
+    private enum State {
+        FIELD_START, UNQUOTED_FIELD, QUOTED_FIELD, QUOTE_IN_QUOTED_FIELD
+    }
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private int lineNumber = 1;
+    private boolean isAtStreamStart = true;
+
+    /**
+     * Creates a {@code CsvReader} that reads from {@code reader}, which it closes when it is closed.
+     */
+    public CsvReader(Reader reader) {
+        this.reader = requireNonNull(reader);
+    }
+
+    /**
+     * Returns the line number the next record starts on, counting from 1.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Reads the next record and returns its fields, or null if the end of the stream has been reached.
+     *
+     * @throws IOException if the stream cannot be read or is not valid comma-separated values.
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        State state = State.FIELD_START;
+        int quoteLineNumber = lineNumber;
+        while (true) {
+            int c = read();
+            switch (state) {
+            case FIELD_START:
+                if (c == END_OF_STREAM) {
+                    if (fields.isEmpty()) {
+                        return null;
+                    }
+                    fields.add("");
+                    return fields;
+                } else if (c == '"') {
+                    quoteLineNumber = lineNumber;
+                    state = State.QUOTED_FIELD;
+                } else if (c == ',') {
+                    fields.add("");
+                } else if (c == '\r' || c == '\n') {
+                    endLine(c);
+                    if (!fields.isEmpty()) {
+                        fields.add("");
+                        return fields;
+                    }
+                } else {
+                    field.append((char) c);
+                    state = State.UNQUOTED_FIELD;
+                }
+                break;
+            case UNQUOTED_FIELD:
+                if (c == ',') {
+                    fields.add(takeField());
+                    state = State.FIELD_START;
+                } else if (c == '\r' || c == '\n' || c == END_OF_STREAM) {
+                    endLine(c);
+                    fields.add(takeField());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                break;
+            case QUOTED_FIELD:
+                if (c == '"') {
+                    state = State.QUOTE_IN_QUOTED_FIELD;
+                } else if (c == END_OF_STREAM) {
+                    field.setLength(0);
+                    throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, quoteLineNumber));
+                } else {
+                    if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+                break;
+            case QUOTE_IN_QUOTED_FIELD:
+                if (c == '"') {
+                    field.append('"');
+                    state = State.QUOTED_FIELD;
+                } else if (c == ',') {
+                    fields.add(takeField());
+                    state = State.FIELD_START;
+                } else if (c == '\r' || c == '\n' || c == END_OF_STREAM) {
+                    endLine(c);
+                    fields.add(takeField());
+                    return fields;
+                } else {
+                    field.setLength(0);
+                    throw new IOException(String.format(MESSAGE_CHARACTER_AFTER_QUOTE, (char) c, lineNumber));
+                }
+                break;
+            default:
+                throw new AssertionError(state);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String takeField() {
+        String value = field.toString();
+        field.setLength(0);
+        return value;
+    }
+
+    /**
+     * Moves past the line break that starts with {@code c}, if {@code c} is not the end of the stream.
+     */
+    private void endLine(int c) throws IOException {
+        if (c == END_OF_STREAM) {
+            return;
+        }
+
+        if (c == '\r' && peek() == '\n') {
+            position++;
+        }
+        lineNumber++;
+    }
+
+    /**
+     * Returns the next character without moving past it, or {@code END_OF_STREAM}.
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_STREAM;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Returns the next character and moves past it, or returns {@code END_OF_STREAM}.
+     */
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_STREAM;
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Reads the next characters of the stream into the buffer, skipping a byte order mark at the start.
+     * Returns false if the end of the stream has been reached.
+     */
+    private boolean fill() throws IOException {
+        int count;
+        do {
+            count = reader.read(buffer, 0, BUFFER_SIZE);
+        } while (count == 0);
+        if (count == END_OF_STREAM) {
+            return false;
+        }
+
+        position = 0;
+        limit = count;
+        if (isAtStreamStart) {
+            isAtStreamStart = false;
+            if (buffer[0] == BYTE_ORDER_MARK) {
+                position++;
+                return position < limit || fill();
+            }
+        }
+        return true;
+    }
+}
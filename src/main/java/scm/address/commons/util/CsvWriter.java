@@ -0,0 +1,86 @@
+package scm.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes records of comma-separated values, as described by RFC 4180, to a character stream as they are given.
+ * A field is enclosed in double quotes if it contains a comma, a double quote or a line break, or has spaces at
+ * either end, and double quotes in it are doubled, so {@link CsvReader} reads back exactly the fields written.
+ * Records end with CRLF.
+ */
+public class CsvWriter implements Flushable {
+
+    private static final String RECORD_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvWriter} that writes to {@code writer} through a buffer.
+     * The records written are only guaranteed to have reached {@code writer} once the {@code CsvWriter} is flushed.
+     */
+    public CsvWriter(Writer writer) {
+        this.writer = new BufferedWriter(requireNonNull(writer));
+    }
+
+    /**
+     * Writes a record of {@code fields}.
+     */
+    public void writeRecord(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        writer.write(RECORD_SEPARATOR);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String field) throws IOException {
+        requireNonNull(field);
+        if (!isQuotingNeeded(field)) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write('"');
+        int start = 0;
+        for (int quote = field.indexOf('"'); quote >= 0; quote = field.indexOf('"', start)) {
+            writer.write(field, start, quote + 1 - start);
+            writer.write('"');
+            start = quote + 1;
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write('"');
+    }
+
+    /**
+     * Returns true if {@code field} must be enclosed in double quotes to be read back as it is.
+     */
+    static boolean isQuotingNeeded(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        if (field.charAt(0) == ' ' || field.charAt(field.length() - 1) == ' ') {
+            return true;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,17 +1,53 @@
 package scm.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import scm.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String MESSAGE_FILE_NOT_WRITABLE = "File exists but is not writable";
+    private static final int GZIP_BUFFER_SIZE = 65536;
+
+    private static volatile boolean isSyncOnWriteEnabled = true;
+
+    /**
+     * Sets whether written files are forced to the storage device before the write is considered complete.
+     * Forcing protects the written data against power loss and operating system crashes, at the cost of slower
+     * writes. Either way, a file being replaced is never left partially written.
+     */
+    public static void setSyncOnWriteEnabled(boolean isEnabled) {
+        isSyncOnWriteEnabled = isEnabled;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +108,192 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens {@code file} for reading. If {@code isGzipCompressed}, the content is decompressed as it is read, so
+     * it is never decompressed to disk or held in memory as a whole.
+     */
+    public static InputStream openInputStream(Path file, boolean isGzipCompressed) throws IOException {
+        InputStream inputStream = Files.newInputStream(file);
+        if (!isGzipCompressed) {
+            return inputStream;
+        }
+
+        try {
+            return new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE);
+        } catch (IOException | RuntimeException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as described in {@link #writeToFile(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file.
+     * Will create the file if it does not exist yet.
+     *
+     * The content is first written to a temporary file in the same directory, which is then renamed over
+     * {@code file}, so a crash in the middle of writing leaves either the old or the new file but never a
+     * partially written one. If it fails, the temporary file is deleted and {@code file} is left untouched.
+     * The new file keeps the permissions, owner and group of the file it replaces, and a new file gets the
+     * default permissions of a created file.
+     *
+     * @throws AccessDeniedException if {@code file} exists but is not writable.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        if (Files.exists(absoluteFile) && !Files.isWritable(absoluteFile)) {
+            throw new AccessDeniedException(absoluteFile.toString(), null, MESSAGE_FILE_NOT_WRITABLE);
+        }
+
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = createTempFile(absoluteFile);
+        try {
+            writeToChannel(tempFile, contentWriter, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            if (Files.exists(absoluteFile)) {
+                copyPosixAttributes(absoluteFile, tempFile);
+            }
+            moveAtomically(tempFile, absoluteFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes given string to a file, unless the file already holds exactly that string.
+     * Will create the file if it does not exist yet.
+     *
+     * @return true if the file was written.
+     */
+    public static boolean writeToFileIfChanged(Path file, String content) throws IOException {
+        if (isFileExists(file) && readFromFile(file).equals(content)) {
+            return false;
+        }
+        writeToFile(file, content);
+        return true;
+    }
+
+    /**
+     * Appends the content produced by {@code contentWriter} to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, ContentWriter contentWriter) throws IOException {
+        writeToChannel(file, contentWriter, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    private static void writeToChannel(Path file, ContentWriter contentWriter, StandardOpenOption... options)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(outputStream);
+            outputStream.flush();
+            if (isSyncOnWriteEnabled) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Creates a new temporary file next to {@code file}. Unlike {@link Files#createTempFile}, which makes the file
+     * readable by its owner only, the file gets the default permissions of a created file.
+     */
+    private static Path createTempFile(Path file) throws IOException {
+        while (true) {
+            Path tempFile = file.resolveSibling(file.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // Tries another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions, owner and group of {@code source}, if the file system supports them.
+     * The owner and group are only kept where the process is allowed to change them.
+     */
+    private static void copyPosixAttributes(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (sourceView == null || targetView == null) {
+            return;
+        }
+
+        PosixFileAttributes sourceAttributes = sourceView.readAttributes();
+        PosixFileAttributes targetAttributes = targetView.readAttributes();
+        targetView.setPermissions(sourceAttributes.permissions());
+        try {
+            if (!sourceAttributes.group().equals(targetAttributes.group())) {
+                targetView.setGroup(sourceAttributes.group());
+            }
+            if (!sourceAttributes.owner().equals(targetAttributes.owner())) {
+                targetView.setOwner(sourceAttributes.owner());
+            }
+        } catch (IOException e) {
+            logger.warning("Could not keep the owner and group of " + source + ": " + e);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic move is not supported for " + target + ", replacing it non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns a {@code ContentWriter} that gzip-compresses the content written by {@code contentWriter} as it is
+     * written, so the uncompressed content is never held in memory as a whole.
+     */
+    public static ContentWriter gzipCompressed(ContentWriter contentWriter) {
+        requireNonNull(contentWriter);
+        return outputStream -> {
+            GzipContentStream gzipOutputStream = new GzipContentStream(outputStream);
+            try {
+                contentWriter.writeTo(gzipOutputStream);
+                gzipOutputStream.finish();
+            } finally {
+                gzipOutputStream.releaseCompressor();
+            }
+        };
+    }
+
+    /**
+     * A {@code GZIPOutputStream} whose compressor can be released without closing the stream it writes to, as
+     * that stream is flushed and closed by the caller of the {@code ContentWriter}.
+     */
+    private static class GzipContentStream extends GZIPOutputStream {
+        GzipContentStream(OutputStream outputStream) throws IOException {
+            super(outputStream, GZIP_BUFFER_SIZE);
+        }
+
+        void releaseCompressor() {
+            def.end();
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code outputStream}, which is flushed and closed by the caller.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 
 }
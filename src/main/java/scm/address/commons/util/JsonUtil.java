@@ -3,18 +3,26 @@ package scm.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import scm.address.commons.core.LogsCenter;
 import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +48,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Flushing is left to the buffered stream, instead of after every element written to a generator
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -77,9 +90,78 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array held by the top-level field {@code arrayFieldName} of the JSON object in the
+     * given file one at a time, passing each to {@code elementHandler} as soon as it is read.
+     * Unlike {@link #readJsonFile}, neither the file contents nor the whole array are held in memory.
+     * Other fields of the object are skipped, and a missing array field is treated as an empty array.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataLoadingException if loading of the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<T> elementHandler) throws DataLoadingException, IllegalValueException {
+        return readJsonArrayFile(filePath, false, arrayFieldName, elementClass, elementHandler);
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}, but decompresses the file as
+     * it is read if {@code isGzipCompressed}.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, boolean isGzipCompressed, String arrayFieldName,
+            Class<T> elementClass, JsonElementHandler<T> elementHandler)
+            throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream inputStream = FileUtil.openInputStream(filePath, isGzipCompressed);
+                JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName)) {
+                    parser.skipChildren();
+                } else if (valueToken == JsonToken.START_ARRAY) {
+                    readJsonArrayElements(parser, elementClass, elementHandler);
+                } else if (valueToken != JsonToken.VALUE_NULL) {
+                    throw new JsonParseException(parser, "Expected an array in field " + arrayFieldName);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return true;
+    }
+
+    private static <T> void readJsonArrayElements(JsonParser parser, Class<T> elementClass,
+            JsonElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object as array element");
+            }
+            elementHandler.handle(objectMapper.readValue(parser, elementClass));
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is not rewritten if it already holds the same JSON text.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -88,10 +170,59 @@ public class JsonUtil {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        if (!FileUtil.writeToFileIfChanged(filePath, toJsonString(jsonFile))) {
+            logger.fine("JSON file " + filePath + " is unchanged, skipping write.");
+        }
     }
 
 
+    /**
+     * Writes a JSON object to the given file whose only field {@code arrayFieldName} holds {@code elements},
+     * each converted into its Jackson-friendly version by {@code elementAdapter} as it is written.
+     * Unlike {@link #saveJsonFile}, the JSON text is streamed to the file instead of being built up in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @param filePath cannot be null.
+     * @param isPrettyPrinted whether to indent the JSON text, rather than writing it compactly.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static <E> void writeJsonArrayFile(Path filePath, String arrayFieldName, Iterable<E> elements,
+            Function<? super E, ?> elementAdapter, boolean isPrettyPrinted) throws IOException {
+        writeJsonArrayFile(filePath, arrayFieldName, elements, elementAdapter, isPrettyPrinted, false);
+    }
+
+    /**
+     * Similar to {@link #writeJsonArrayFile(Path, String, Iterable, Function, boolean)}, but compresses the JSON
+     * text as it is written if {@code isGzipCompressed}.
+     */
+    public static <E> void writeJsonArrayFile(Path filePath, String arrayFieldName, Iterable<E> elements,
+            Function<? super E, ?> elementAdapter, boolean isPrettyPrinted, boolean isGzipCompressed)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(elementAdapter);
+
+        FileUtil.ContentWriter contentWriter = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                // The stream is closed by FileUtil once the file is complete
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (isPrettyPrinted) {
+                    generator.useDefaultPrettyPrinter();
+                }
+
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayFieldName);
+                for (E element : elements) {
+                    elementWriter.writeValue(generator, elementAdapter.apply(element));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        FileUtil.writeToFile(filePath, isGzipCompressed ? FileUtil.gzipCompressed(contentWriter) : contentWriter);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +242,31 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a compact, single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read by {@link #readJsonArrayFile}.
+     *
+     * @param <T> the type of the element.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        /**
+         * Handles {@code element}.
+         *
+         * @throws IllegalValueException if the element is not valid.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -5,13 +5,18 @@ import static scm.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +43,53 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if {@code foldedWords} contains {@code foldedWord}.
+     * Both must have been case-folded with {@link #foldCase(String)}, so this matches as
+     * {@link #containsWordIgnoreCase(String, String)} does on the original sentence, without allocating.
+     */
+    public static boolean containsFoldedWord(String[] foldedWords, String foldedWord) {
+        requireNonNull(foldedWords);
+        requireNonNull(foldedWord);
+
+        for (String word : foldedWords) {
+            if (word.equals(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of {@code sentence}, split on whitespace as {@link #containsWordIgnoreCase(String, String)}
+     * does, each case-folded with {@link #foldCase(String)}.
+     */
+    public static String[] getFoldedWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        for (String word : WHITESPACE.split(sentence)) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Returns {@code word} with each character mapped to the lower case of its upper case, so two words are
+     * equal after folding if and only if they are equal ignoring case, as defined by {@code String#equalsIgnoreCase}.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return folded.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,107 @@
+package scm.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static scm.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index of items by the trigrams (substrings of three characters) of a text about each item,
+ * for narrowing down the items whose text contains a substring without scanning every item.
+ * Texts and substrings are compared in lower case, as {@code String#toLowerCase()} gives it.
+ * <p>
+ * The index only finds candidates: an item whose text contains every trigram of a substring does not necessarily
+ * contain the substring, so candidates must be verified.
+ *
+ * @param <T> Type of the items indexed.
+ */
+public class TrigramIndex<T> {
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<String, Set<T>> itemsByTrigram = new HashMap<>();
+
+    /**
+     * Indexes {@code item} under the trigrams of {@code text}.
+     */
+    public void add(T item, String text) {
+        requireAllNonNull(item, text);
+        for (String trigram : getTrigrams(text)) {
+            itemsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the trigrams of {@code text}, which must be the text it was indexed with.
+     */
+    public void remove(T item, String text) {
+        requireAllNonNull(item, text);
+        for (String trigram : getTrigrams(text)) {
+            Set<T> items = itemsByTrigram.get(trigram);
+            if (items == null) {
+                continue;
+            }
+
+            items.remove(item);
+            if (items.isEmpty()) {
+                itemsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        itemsByTrigram.clear();
+    }
+
+    /**
+     * Returns the items whose text has every trigram of {@code substring}, which include all the items whose text
+     * contains {@code substring}, or an empty {@code Optional} if {@code substring} is shorter than a trigram.
+     */
+    public Optional<Set<T>> findCandidates(String substring) {
+        requireNonNull(substring);
+        Set<String> trigrams = getTrigrams(substring);
+        if (trigrams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<T>> postingLists = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<T> items = itemsByTrigram.get(trigram);
+            if (items == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            postingLists.add(items);
+        }
+
+        // Intersects from the rarest trigram, so the intersection never grows past its posting list
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text} in lower case.
+     */
+    static Set<String> getTrigrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,249 @@
+package scm.address.logic;
+
+import static scm.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javafx.collections.ObservableList;
+import scm.address.commons.core.GuiSettings;
+import scm.address.model.Model;
+import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.ReadOnlyScheduleList;
+import scm.address.model.ReadOnlyUserPrefs;
+import scm.address.model.person.Person;
+import scm.address.model.schedule.Schedule;
+
+/**
+ * A {@code Model} for commands executed off the JavaFX application thread.
+ * Every change to the model is run on the JavaFX application thread, which the observable lists shown in the UI
+ * must only be changed on, and waited for, so the command sees its own changes. Reads go straight to the model,
+ * which is safe as long as the commands are executed one at a time, since nothing else changes the model then.
+ * Once shut down, changes are made on the thread of the command, as the JavaFX application thread may no longer
+ * run them.
+ */
+class FxThreadModel implements Model {
+
+    private final Model model;
+    private final Executor fxThread;
+    private final Set<FutureTask<Void>> pendingChanges = new HashSet<>();
+    private boolean isShutDown;
+
+    /**
+     * Creates a {@code FxThreadModel} that changes {@code model} on the thread {@code fxThread} runs tasks on.
+     */
+    FxThreadModel(Model model, Executor fxThread) {
+        requireAllNonNull(model, fxThread);
+        this.model = model;
+        this.fxThread = fxThread;
+    }
+
+    /**
+     * Runs {@code change} on the JavaFX application thread and waits for it to complete, even if interrupted, so
+     * that a change is never left half made when the command returns. Once shut down, runs it on this thread.
+     */
+    private void runOnFxThread(Runnable change) {
+        FutureTask<Void> task = new FutureTask<>(change, null);
+        synchronized (this) {
+            if (isShutDown) {
+                change.run();
+                return;
+            }
+            pendingChanges.add(task);
+        }
+        try {
+            fxThread.execute(task);
+            waitFor(task);
+        } finally {
+            synchronized (this) {
+                pendingChanges.remove(task);
+            }
+        }
+    }
+
+    /**
+     * Waits for {@code task} to complete, even if interrupted, and rethrows whatever it threw.
+     */
+    private static void waitFor(FutureTask<Void> task) {
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    task.get();
+                    return;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw (Error) e.getCause();
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Makes every later change on the thread of the command instead, and makes the changes still waiting for the
+     * JavaFX application thread on the calling thread.
+     * Called on the JavaFX application thread when the app stops, as it runs no more changes after that, so that the
+     * commands waiting for their changes can complete instead of waiting forever.
+     */
+    void shutdown() {
+        List<FutureTask<Void>> changesToRun;
+        synchronized (this) {
+            isShutDown = true;
+            changesToRun = new ArrayList<>(pendingChanges);
+        }
+        // A change already run by the JavaFX application thread is not run again
+        changesToRun.forEach(FutureTask::run);
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        runOnFxThread(() -> model.setUserPrefs(userPrefs));
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return model.getUserPrefs();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return model.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        runOnFxThread(() -> model.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return model.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        runOnFxThread(() -> model.setAddressBookFilePath(addressBookFilePath));
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        runOnFxThread(() -> model.setAddressBook(addressBook));
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return model.getAddressBook();
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        return model.hasPerson(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        runOnFxThread(() -> model.deletePerson(target));
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        runOnFxThread(() -> model.addPerson(person));
+    }
+
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        runOnFxThread(() -> model.addPersons(persons));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        runOnFxThread(() -> model.setPerson(target, editedPerson));
+    }
+
+    //=========== Filtered Person List Accessors =============================================================
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return model.getFilteredPersonList();
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        runOnFxThread(() -> model.updateFilteredPersonList(predicate));
+    }
+
+    @Override
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        return model.findPersons(predicate);
+    }
+
+    @Override
+    public Stream<Person> streamPersons(Predicate<Person> predicate) {
+        return model.streamPersons(predicate);
+    }
+
+    //=========== ScheduleList ===============================================================================
+
+    @Override
+    public void setScheduleList(ReadOnlyScheduleList scheduleList) {
+        runOnFxThread(() -> model.setScheduleList(scheduleList));
+    }
+
+    @Override
+    public ReadOnlyScheduleList getScheduleList() {
+        return model.getScheduleList();
+    }
+
+    @Override
+    public void addSchedule(Schedule schedule) {
+        runOnFxThread(() -> model.addSchedule(schedule));
+    }
+
+    @Override
+    public void addSchedules(Collection<Schedule> schedules) {
+        runOnFxThread(() -> model.addSchedules(schedules));
+    }
+
+    @Override
+    public void setSchedule(Schedule scheduleToEdit, Schedule editedSchedule) {
+        runOnFxThread(() -> model.setSchedule(scheduleToEdit, editedSchedule));
+    }
+
+    @Override
+    public void removeSchedule(Schedule schedule) {
+        runOnFxThread(() -> model.removeSchedule(schedule));
+    }
+
+    //=========== Filtered Schedule List Accessors ===========================================================
+
+    @Override
+    public void updateFilteredScheduleList(Predicate<Schedule> predicate) {
+        runOnFxThread(() -> model.updateFilteredScheduleList(predicate));
+    }
+
+    @Override
+    public ObservableList<Schedule> getFilteredScheduleList() {
+        return model.getFilteredScheduleList();
+    }
+}
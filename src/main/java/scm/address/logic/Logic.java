@@ -1,6 +1,8 @@
 package scm.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import scm.address.commons.core.GuiSettings;
@@ -8,6 +10,7 @@ import scm.address.logic.commands.CommandResult;
 import scm.address.logic.commands.exceptions.CommandException;
 import scm.address.logic.parser.exceptions.ParseException;
 import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.ReadOnlyScheduleList;
 import scm.address.model.person.Person;
 import scm.address.model.schedule.Schedule;
 
@@ -24,6 +27,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a background worker, after the commands executed in the background before it.
+     * Changes to the model are made on the JavaFX application thread.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException}
+     *     or a {@code ParseException} if the command fails.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
+    /**
+     * Stops executing commands in the background, and waits a bounded time for the commands executed in the
+     * background before to complete. Commands executed in the background afterwards fail with a
+     * {@code CommandException}.
+     * Must be called on the JavaFX application thread.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
@@ -49,6 +69,18 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns the schedule list.
+     *
+     * @see scm.address.model.Model#getScheduleList()
+     */
+    ReadOnlyScheduleList getScheduleList();
+
     /** Returns an unmodifiable view of the list of schedules. **/
     ObservableList<Schedule> getFilteredScheduleList();
+
+    /**
+     * Sets the handler to be given an error message whenever saving the data in the background fails.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
@@ -1,10 +1,19 @@
 package scm.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import scm.address.commons.core.GuiSettings;
 import scm.address.commons.core.LogsCenter;
@@ -15,6 +24,7 @@ import scm.address.logic.parser.AddressBookParser;
 import scm.address.logic.parser.exceptions.ParseException;
 import scm.address.model.Model;
 import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.ReadOnlyScheduleList;
 import scm.address.model.person.Person;
 import scm.address.model.schedule.Schedule;
 import scm.address.storage.Storage;
@@ -28,23 +38,48 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_SHUT_DOWN = "The app is closing, so no more commands can be run.";
+
+    private static final String COMMAND_WORKER_THREAD_NAME = "command-worker";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
+    private final FxThreadModel backgroundModel;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private ExecutorService commandWorker;
+    private boolean isShutDown;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose commands executed in
+     * the background change {@code model} on the thread {@code fxThread} runs tasks on.
+     */
+    LogicManager(Model model, Storage storage, Executor fxThread) {
         this.model = model;
+        this.backgroundModel = new FxThreadModel(model, fxThread);
         this.storage = storage;
         addressBookParser = new AddressBookParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, model);
+    }
+
+    /**
+     * Parses and executes {@code commandText} on {@code model}, then saves the data.
+     */
+    private CommandResult execute(String commandText, Model model) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
@@ -54,15 +89,76 @@ public class LogicManager implements Logic {
         try {
             storage.saveAddressBook(model.getAddressBook());
             storage.saveScheduleList(model.getScheduleList());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public synchronized CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        if (isShutDown) {
+            return CompletableFuture.failedFuture(new CommandException(MESSAGE_SHUT_DOWN));
+        }
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        getCommandWorker().execute(() -> {
+            try {
+                result.complete(execute(commandText, backgroundModel));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void shutdown() {
+        ExecutorService worker;
+        synchronized (this) {
+            isShutDown = true;
+            worker = commandWorker;
+        }
+        // The commands waiting for the JavaFX application thread, which is blocked here, make their changes themselves
+        backgroundModel.shutdown();
+        if (worker == null) {
+            return;
+        }
+
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds are abandoned");
+            }
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the commands to complete");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized ExecutorService getCommandWorker() {
+        if (commandWorker == null) {
+            commandWorker = Executors.newSingleThreadExecutor(LogicManager::createCommandWorkerThread);
+        }
+        return commandWorker;
+    }
+
+    private static Thread createCommandWorkerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, COMMAND_WORKER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Returns the message to show the user when saving fails with {@code e}.
+     */
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -88,8 +184,19 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public ReadOnlyScheduleList getScheduleList() {
+        return model.getScheduleList();
+    }
+
     @Override
     public ObservableList<Schedule> getFilteredScheduleList() {
         return model.getFilteredScheduleList();
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        storage.setSaveFailureHandler(e -> saveFailureHandler.accept(getSaveErrorMessage(e)));
+    }
 }
@@ -1,12 +1,6 @@
 package scm.address.logic.commands;
 
-import java.time.YearMonth;
-
-import javafx.application.Platform;
-import javafx.scene.Scene;
-import javafx.stage.Stage;
 import scm.address.model.Model;
-import scm.address.model.view.CalendarView;
 
 /**
  * Command to display a calendar view.
@@ -18,17 +12,6 @@ public class CalendarViewCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) {
-        Platform.runLater(() -> {
-            Stage stage = new Stage();
-            stage.setTitle("Calendar");
-
-            CalendarView calendarView = new CalendarView(YearMonth.now(), model);
-
-            Scene scene = new Scene(calendarView, 600, 400);
-            stage.setScene(scene);
-            stage.show();
-        });
-
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(MESSAGE_SUCCESS, false, false, false, true);
     }
 }
@@ -21,14 +21,26 @@ public class CommandResult {
 
     private final boolean changeTheme;
 
+    /** The calendar window should be shown to the user. */
+    private final boolean showCalendar;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean changeTheme) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean changeTheme,
+            boolean showCalendar) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.changeTheme = changeTheme;
+        this.showCalendar = showCalendar;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields that does not show the calendar window.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean changeTheme) {
+        this(feedbackToUser, showHelp, exit, changeTheme, false);
     }
 
     /**
@@ -55,6 +67,10 @@ public class CommandResult {
         return changeTheme;
     }
 
+    public boolean isShowCalendar() {
+        return showCalendar;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +85,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && showCalendar == otherCommandResult.showCalendar;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, showCalendar);
     }
 
     @Override
@@ -7,19 +7,28 @@ import static scm.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static scm.address.model.file.FileFormat.CSV_FILE;
 import static scm.address.model.file.FileFormat.JSON_FILE;
 import static scm.address.model.file.FileFormat.getFileFormat;
+import static scm.address.model.file.FileFormat.isGzipCompressed;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
+import java.util.StringJoiner;
 import java.util.function.Predicate;
 
 import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.commons.util.CsvWriter;
+import scm.address.commons.util.FileUtil;
 import scm.address.logic.commands.exceptions.CommandException;
-import scm.address.model.AddressBook;
 import scm.address.model.Model;
+import scm.address.model.person.AddressContainsSubstringPredicate;
+import scm.address.model.person.HasTagPredicate;
+import scm.address.model.person.NameContainsSubstringPredicate;
 import scm.address.model.person.Person;
+import scm.address.model.tag.Tag;
 import scm.address.storage.JsonAddressBookStorage;
 
 /**
@@ -45,8 +54,12 @@ public class FindAndExportCommand extends Command {
             + PREFIX_NAME + "john "
             + PREFIX_ADDRESS + "olive street 42 "
             + PREFIX_FILENAME + "output1.json";
-    public static final String FILE_NOT_WRITABLE_MESSAGE = "File exists but is not writable: ";
     public static final String MESSAGE_UNSUPPORTED_FILE_FORMAT = "Unsupported file format: ";
+
+    private static final List<String> CSV_HEADERS = List.of(ImportCommand.CSV_NAME_COLUMN,
+            ImportCommand.CSV_PHONE_COLUMN, ImportCommand.CSV_EMAIL_COLUMN, ImportCommand.CSV_ADDRESS_COLUMN,
+            ImportCommand.CSV_TAGS_COLUMN);
+
     private final String tag;
     private final String name;
     private final String address;
@@ -87,16 +100,17 @@ public class FindAndExportCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         Predicate<Person> predicate = createPredicateForFiltering(tag, name, address);
-        model.updateFilteredPersonList(predicate);
+        // The matches are streamed to the file as they are found, instead of being collected first
+        Iterator<Person> matches = model.streamPersons(predicate).iterator();
 
-        List<Person> filteredList = model.getFilteredPersonList();
-
-        if (filteredList.isEmpty()) {
+        if (!matches.hasNext()) {
             throw new CommandException("No users found.");
         }
+        // The export continues the same scan, so the address book is filtered only once
+        Iterable<Person> persons = () -> matches;
 
         try {
-            exportData(filteredList, this.file);
+            exportData(persons, this.file);
             return new CommandResult(String.format("Export successful to [%s].", this.file.getName()));
         } catch (IOException | IllegalValueException e) {
             throw new CommandException("Error exporting data: " + e.getMessage());
@@ -107,20 +121,22 @@ public class FindAndExportCommand extends Command {
         Predicate<Person> predicate = person -> true;
 
         if (tag != null && !tag.isBlank()) {
-            predicate = predicate.and(person -> person.getTags().stream().anyMatch(t -> t.tagName.equals(tag)));
+            predicate = new HasTagPredicate(tag);
         }
         if (name != null && !name.isBlank()) {
-            predicate = predicate.and(person -> person.getName().fullName.toLowerCase().contains(name.toLowerCase()));
+            predicate = new NameContainsSubstringPredicate(name).and(predicate);
         }
         if (address != null && !address.isBlank()) {
-            predicate = predicate.and(person -> person.getAddress().value
-                    .toLowerCase().contains(address.toLowerCase()));
+            predicate = new AddressContainsSubstringPredicate(address).and(predicate);
         }
 
         return predicate;
     }
 
-    private void exportData(List<Person> users, File file) throws IOException, IllegalValueException {
+    /**
+     * Exports {@code users} to {@code file}, iterating over them only once.
+     */
+    private void exportData(Iterable<Person> users, File file) throws IOException, IllegalValueException {
         String fileFormat = getFileFormat(file);
         switch (fileFormat) {
         case JSON_FILE:
@@ -134,32 +150,41 @@ public class FindAndExportCommand extends Command {
         }
     }
 
-    private void exportDataAsJson(List<Person> users, File file) throws IOException {
+    /**
+     * Streams {@code users} to the json {@code file} as they are converted, without copying them first.
+     * A gzip-compressed {@code file} is compressed as it is written.
+     */
+    private void exportDataAsJson(Iterable<Person> users, File file) throws IOException {
         requireNonNull(users);
         requireNonNull(file);
         Path filePath = file.toPath();
-        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
-        AddressBook addressBook = new AddressBook();
-        for (Person p : users) {
-            addressBook.addPerson(p);
-        }
-        jsonAddressBookStorage.saveAddressBook(addressBook);
+        new JsonAddressBookStorage(filePath, true, isGzipCompressed(file)).savePersons(users, filePath);
     }
 
-    private void exportDataAsCsv(List<Person> users, File file) throws IOException {
-        if (file.exists() && !file.canWrite()) {
-            throw new IOException(FILE_NOT_WRITABLE_MESSAGE + file.getAbsolutePath());
-        }
-        StringBuilder csv = new StringBuilder();
-        csv.append("Name,Phone,Email,Address,Tags\n");
-        for (Person user : users) {
-            csv.append(user.getName().fullName).append(",");
-            csv.append(user.getPhone().value).append(",");
-            csv.append(user.getEmail().value).append(",");
-            csv.append('\"' + user.getAddress().value).append("\",");
-            csv.append(user.getTags().stream().map(tag -> tag.tagName).reduce((a, b) -> a + " | " + b).orElse(""));
-            csv.append("\n");
+    /**
+     * Streams {@code users} to the csv {@code file} a record at a time, in the columns {@code ImportCommand} reads.
+     * A gzip-compressed {@code file} is compressed as it is written.
+     */
+    private void exportDataAsCsv(Iterable<Person> users, File file) throws IOException {
+        FileUtil.ContentWriter contentWriter = outputStream -> {
+            // The stream is closed by FileUtil once the file is complete, so the writer is only flushed
+            CsvWriter csvWriter = new CsvWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            csvWriter.writeRecord(CSV_HEADERS);
+            for (Person user : users) {
+                csvWriter.writeRecord(List.of(user.getName().fullName, user.getPhone().value,
+                        user.getEmail().value, user.getAddress().value, getCsvTags(user)));
+            }
+            csvWriter.flush();
+        };
+        FileUtil.writeToFile(file.toPath(),
+                isGzipCompressed(file) ? FileUtil.gzipCompressed(contentWriter) : contentWriter);
+    }
+
+    private static String getCsvTags(Person user) {
+        StringJoiner tags = new StringJoiner(ImportCommand.CSV_TAG_SEPARATOR);
+        for (Tag tag : user.getTags()) {
+            tags.add(tag.tagName);
         }
-        Files.write(file.toPath(), csv.toString().getBytes());
+        return tags.toString();
     }
 }
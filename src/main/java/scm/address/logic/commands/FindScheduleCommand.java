@@ -72,8 +72,9 @@ public class FindScheduleCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredScheduleList(titlePredicate.and(descriptionPredicate
-                .and(beforePredicate.and(afterPredicate.and(duringPredicate)))));
+        // The date and time predicates come first so that the schedules are found with the interval index
+        model.updateFilteredScheduleList(beforePredicate.and(afterPredicate).and(duringPredicate)
+                .and(titlePredicate).and(descriptionPredicate));
 
         String titleMessage = titlePredicate.getKeywords().isEmpty()
                 ? "" : "\nTitle: " + String.join(" ", titlePredicate.getKeywords());
@@ -6,26 +6,40 @@ import static scm.address.model.file.FileFormat.CSV_FILE;
 import static scm.address.model.file.FileFormat.JSON_FILE;
 import static scm.address.model.file.FileFormat.MESSAGE_UNSUPPORTED_FILE_FORMAT;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import scm.address.commons.core.LogsCenter;
 import scm.address.commons.exceptions.DataLoadingException;
 import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.commons.util.CsvReader;
+import scm.address.commons.util.FileUtil;
+import scm.address.commons.util.StringUtil;
 import scm.address.logic.commands.exceptions.CommandException;
 import scm.address.model.Model;
 import scm.address.model.ReadOnlyAddressBook;
 import scm.address.model.file.FileFormat;
 import scm.address.model.person.Person;
+import scm.address.model.person.UniquePersonList;
 import scm.address.storage.JsonAdaptedPerson;
 import scm.address.storage.JsonAdaptedTag;
 import scm.address.storage.JsonAddressBookStorage;
@@ -47,9 +61,26 @@ public class ImportCommand extends Command {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "The person %s with phone number %s "
             + "already exists in the contact manager.";
+    public static final String MESSAGE_DUPLICATE_IMPORTED_PERSON = "The person %s with phone number %s "
+            + "appears more than once in the imported files.";
+    public static final String MESSAGE_FILE_IMPORTED = "%1$s: %2$d contacts in %3$d ms (%4$d contacts/s)";
 
     public static final String MESSAGE_FILE_NOT_FOUND = "Filename %s is not found!";
     public static final String MESSAGE_FILE_LOADING_ERROR = "Couldn't load data in: ";
+    public static final String MESSAGE_MISSING_CSV_COLUMN = "Column %1$s is missing from the csv header";
+    public static final String MESSAGE_INCORRECT_CSV_RECORD = "Incorrect Data Format on line %1$d!";
+
+    public static final String CSV_NAME_COLUMN = "Name";
+    public static final String CSV_PHONE_COLUMN = "Phone";
+    public static final String CSV_EMAIL_COLUMN = "Email";
+    public static final String CSV_ADDRESS_COLUMN = "Address";
+    public static final String CSV_TAGS_COLUMN = "Tags";
+    public static final String CSV_TAG_SEPARATOR = " | ";
+
+    private static final String CSV_TAG_SEPARATOR_REGEX = "\\|";
+
+    private static final String READER_THREAD_NAME = "import-reader";
+    private static final int MAX_READER_THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors());
 
     private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
     private final Set<File> files;
@@ -67,93 +98,172 @@ public class ImportCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<JsonAdaptedPerson> jsonAdaptedPersonList = new ArrayList<>();
-        List<Person> persons = new ArrayList<>();
-
+        List<ImportedFile> importedFiles;
         try {
-            retrievePersonsFromFile(jsonAdaptedPersonList);
+            importedFiles = readFiles();
         } catch (IllegalValueException ive) {
             throw new CommandException(ive.getMessage());
         } catch (DataLoadingException dle) {
             throw new CommandException(dle.getMessage());
         }
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersonList) {
-            try {
-                Person person = jsonAdaptedPerson.toModelType();
-                if (model.hasPerson(person)) {
-                    logger.info(String.format(MESSAGE_DUPLICATE_PERSON, person.getName(), person.getPhone()));
-                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON,
-                            person.getName(), person.getPhone()));
+        // Checks every person against the hashed identities of the persons in the model and those imported before it
+        UniquePersonList persons = new UniquePersonList();
+        for (ImportedFile importedFile : importedFiles) {
+            for (Person person : importedFile.getPersons()) {
+                String duplicateMessage = model.hasPerson(person) ? MESSAGE_DUPLICATE_PERSON
+                        : persons.contains(person) ? MESSAGE_DUPLICATE_IMPORTED_PERSON
+                        : null;
+                if (duplicateMessage != null) {
+                    String message = String.format(duplicateMessage, person.getName(), person.getPhone());
+                    logger.info(message);
+                    throw new CommandException(message);
                 }
                 persons.add(person);
-            } catch (IllegalValueException ive) {
-                logger.info("Illegal value detected!: " + ive.getMessage());
-                throw new CommandException(ive.getMessage());
             }
         }
 
-        for (Person person : persons) {
-            model.addPerson(person);
-        }
-        return new CommandResult(String.format(MESSAGE_SUCCESS));
+        // Added as a single change, so the person list is only refiltered and redrawn once
+        model.addPersons(persons.asUnmodifiableObservableList());
+        return new CommandResult(getImportSummary(importedFiles));
     }
 
     /**
-     * Retrieves the persons from {@code files} and adds it to {@code savedPersons}
+     * Reads and validates the persons in {@code files}, several files at a time on a bounded pool of threads, and
+     * returns them by file in the order of the file paths.
      *
-     * @param savedPersons A List of JsonAdaptedPerson.
-     * @throws IllegalValueException If there are files not found or unable to be loaded.
+     * @return The persons read from each file, with how long reading the file took.
+     * @throws IllegalValueException If there are files not found or of an unsupported format, or a person read is
+     *     not valid.
+     * @throws DataLoadingException If a file is unable to be loaded.
      */
-    public void retrievePersonsFromFile(List<JsonAdaptedPerson> savedPersons)
-            throws IllegalValueException, DataLoadingException {
-        for (File file : files) {
+    public List<ImportedFile> readFiles() throws IllegalValueException, DataLoadingException {
+        List<File> sortedFiles = new ArrayList<>(files);
+        sortedFiles.sort(Comparator.comparing(File::getPath));
+        for (File file : sortedFiles) {
             if (!file.exists()) {
                 logger.info(String.format(MESSAGE_FILE_NOT_FOUND, file.getPath()));
                 throw new IllegalValueException(String.format(MESSAGE_FILE_NOT_FOUND, file.getPath()));
             }
-            try {
-                switch (FileFormat.getFileFormat(file)) {
-                case JSON_FILE:
-                    logger.info("Reading from json file: " + file.getPath());
-                    savedPersons.addAll(readPersons(file));
-                    break;
-                case CSV_FILE:
-                    logger.info("Reading from csv file: " + file.getPath());
-                    savedPersons.addAll(readPersonsFromCsv(file));
-                    break;
-                default:
-                    logger.info(MESSAGE_UNSUPPORTED_FILE_FORMAT);
-                    throw new IllegalValueException(MESSAGE_UNSUPPORTED_FILE_FORMAT);
+            FileFormat.getFileFormat(file);
+        }
+
+        int threadCount = Math.max(1, Math.min(sortedFiles.size(), MAX_READER_THREAD_COUNT));
+        ExecutorService readers = Executors.newFixedThreadPool(threadCount, ImportCommand::createReaderThread);
+        try {
+            List<Future<ImportedFile>> readingTasks = new ArrayList<>();
+            for (File file : sortedFiles) {
+                readingTasks.add(readers.submit(() -> readFile(file)));
+            }
+
+            List<ImportedFile> importedFiles = new ArrayList<>();
+            for (Future<ImportedFile> readingTask : readingTasks) {
+                importedFiles.add(getReadingResult(readingTask));
+            }
+            return importedFiles;
+        } finally {
+            // Stops reading the other files as soon as one fails
+            readers.shutdownNow();
+        }
+    }
+
+    private static Thread createReaderThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, READER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Returns the result of a file reading task run on the pool of reader threads.
+     *
+     * @throws IllegalValueException If the task found a person that is not valid.
+     * @throws DataLoadingException If the task failed to load the file or was interrupted.
+     */
+    private static ImportedFile getReadingResult(Future<ImportedFile> readingTask)
+            throws IllegalValueException, DataLoadingException {
+        try {
+            return readingTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads and validates the persons in {@code file}. Runs on a reader thread.
+     */
+    private ImportedFile readFile(File file) throws IllegalValueException, DataLoadingException {
+        long startTime = System.nanoTime();
+        List<Person> persons = new ArrayList<>();
+        try {
+            switch (FileFormat.getFileFormat(file)) {
+            case JSON_FILE:
+                logger.info("Reading from json file: " + file.getPath());
+                persons.addAll(readPersons(file));
+                break;
+            case CSV_FILE:
+                logger.info("Reading from csv file: " + file.getPath());
+                for (JsonAdaptedPerson jsonAdaptedPerson : readPersonsFromCsv(file)) {
+                    persons.add(jsonAdaptedPerson.toModelType());
                 }
-            } catch (IllegalValueException e) {
-                logger.info(e.getMessage());
-                throw e;
-            } catch (DataLoadingException dle) {
-                logger.info(MESSAGE_FILE_LOADING_ERROR + file.getPath());
-                throw dle;
+                break;
+            default:
+                logger.info(MESSAGE_UNSUPPORTED_FILE_FORMAT);
+                throw new IllegalValueException(MESSAGE_UNSUPPORTED_FILE_FORMAT);
             }
+        } catch (IllegalValueException e) {
+            logger.info("Illegal value detected!: " + e.getMessage());
+            throw e;
+        } catch (DataLoadingException dle) {
+            logger.info(MESSAGE_FILE_LOADING_ERROR + file.getPath());
+            throw dle;
         }
+        return new ImportedFile(file, persons, System.nanoTime() - startTime);
     }
 
     /**
-     * Reads the JsonAdaptedPersons inside {@code file} and returns a List of them.
+     * Returns the feedback for a successful import of {@code importedFiles}, with how fast each file was read.
+     */
+    private static String getImportSummary(List<ImportedFile> importedFiles) {
+        StringBuilder summary = new StringBuilder(MESSAGE_SUCCESS);
+        for (ImportedFile importedFile : importedFiles) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(importedFile.getReadingNanos());
+            long personsPerSecond = importedFile.getPersons().size() * TimeUnit.SECONDS.toNanos(1)
+                    / Math.max(1, importedFile.getReadingNanos());
+            summary.append('\n').append(String.format(MESSAGE_FILE_IMPORTED, importedFile.getFile().getName(),
+                    importedFile.getPersons().size(), millis, personsPerSecond));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Reads the persons inside the json {@code file} and returns a List of them.
+     * A gzip-compressed {@code file} is decompressed as it is read.
      *
      * @param file A File.
-     * @return A List of JsonAdaptedPerson present inside the {@code file}.
+     * @return A List of the persons present inside the {@code file}.
      * @throws DataLoadingException If the {@code file} is unable to be loaded.
      */
-    private List<JsonAdaptedPerson> readPersons(File file)
+    private List<Person> readPersons(File file)
             throws DataLoadingException {
-        JsonAddressBookStorage curStorage = new JsonAddressBookStorage(file.toPath());
+        JsonAddressBookStorage curStorage = new JsonAddressBookStorage(file.toPath(), true,
+                FileFormat.isGzipCompressed(file));
         Optional<ReadOnlyAddressBook> readOnlyAddressBook = curStorage.readAddressBook();
         return readOnlyAddressBook
                 .orElseThrow(() ->
                         new DataLoadingException(new Exception(MESSAGE_FILE_LOADING_ERROR + file.getPath())))
-                .getPersonList()
-                .stream()
-                .map(JsonAdaptedPerson::new)
-                .collect(Collectors.toList());
+                .getPersonList();
     }
 
     /**
@@ -164,60 +274,80 @@ public class ImportCommand extends Command {
      * @throws DataLoadingException If the {@code file} is unable to be loaded.
      */
     private List<JsonAdaptedPerson> readPersonsFromCsv(File file) throws DataLoadingException {
-        String filePath = file.getPath();
-        List<JsonAdaptedPerson> persons = new ArrayList<>();
         try {
-            persons = getPersonsFromCsv(filePath);
+            return getPersonsFromCsv(file);
         } catch (IOException e) {
+            logger.info(e.getMessage());
             throw new DataLoadingException(new Exception(MESSAGE_FILE_LOADING_ERROR + file.getPath()));
         }
-        return persons;
     }
 
     /**
-     * Reads the csv data inside {@code filePath} and returns a List of JsonAdaptedPersons.
+     * Reads the csv data inside {@code file} and returns a List of JsonAdaptedPersons.
+     * The columns are found by the names in the header record, ignoring case, so they may be in any order.
+     * The Tags column may be left out, and the tags in it are separated by "|".
+     * A gzip-compressed {@code file} is decompressed as it is read.
      * It acts as a helper function for {@link #readPersonsFromCsv(File)}.
      *
-     * @param filePath A csv file path.
+     * @param file A csv file.
      * @return A List of JsonAdaptedPerson present inside the {@code file}.
-     * @throws IOException If the {@code file} is unable to be loaded.
+     * @throws IOException If the {@code file} is unable to be loaded or is not in the expected format.
      */
-    private List<JsonAdaptedPerson> getPersonsFromCsv(String filePath) throws IOException {
+    private List<JsonAdaptedPerson> getPersonsFromCsv(File file) throws IOException {
         List<JsonAdaptedPerson> persons = new ArrayList<>();
-        BufferedReader br = new BufferedReader(new FileReader(filePath));
-        String line = "";
-        String splitBy = ",(?=([^\"]*\"[^\"]*\")*[^\"]*$)";
-        String headers = br.readLine();
-        while ((line = br.readLine()) != null) {
-            String[] info = line.split(splitBy);
-
-            if (info.length < 4) {
-                throw new IOException("Incorrect Data Format!");
-            }
+        InputStream inputStream = FileUtil.openInputStream(file.toPath(), FileFormat.isGzipCompressed(file));
+        try (CsvReader csvReader = new CsvReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<String> headers = csvReader.readRecord();
+            Map<String, Integer> columns = getCsvColumns(headers == null ? List.of() : headers);
+            int nameColumn = getRequiredCsvColumn(columns, CSV_NAME_COLUMN);
+            int phoneColumn = getRequiredCsvColumn(columns, CSV_PHONE_COLUMN);
+            int emailColumn = getRequiredCsvColumn(columns, CSV_EMAIL_COLUMN);
+            int addressColumn = getRequiredCsvColumn(columns, CSV_ADDRESS_COLUMN);
+            int tagsColumn = columns.getOrDefault(StringUtil.foldCase(CSV_TAGS_COLUMN), -1);
+            int requiredFieldCount = Collections.max(List.of(nameColumn, phoneColumn, emailColumn, addressColumn)) + 1;
+
+            int lineNumber = csvReader.getLineNumber();
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                if (record.size() < requiredFieldCount) {
+                    throw new IOException(String.format(MESSAGE_INCORRECT_CSV_RECORD, lineNumber));
+                }
 
-            String name = info[0];
-            String phone = info[1];
-            String email = info[2];
-            String address = info[3];
-            address = address.replaceFirst("^\"", "");
-            address = address.replaceFirst("\"$", "");
-
-            // If there are no tags, add the person without tags
-            if (info.length < 5) {
-                persons.add(new JsonAdaptedPerson(name, phone, email, address, new ArrayList<JsonAdaptedTag>()));
-                continue;
+                // A record may leave out an empty Tags field at its end
+                String tags = tagsColumn >= 0 && tagsColumn < record.size() ? record.get(tagsColumn) : "";
+                persons.add(new JsonAdaptedPerson(record.get(nameColumn), record.get(phoneColumn),
+                        record.get(emailColumn), record.get(addressColumn), getTagsFromCsv(tags)));
+                lineNumber = csvReader.getLineNumber();
             }
+        }
+        return persons;
+    }
 
-            List<JsonAdaptedTag> tags = Arrays.stream(info[4].split(" \\| "))
-                    .map(String::trim)
-                    .map(JsonAdaptedTag::new)
-                    .collect(Collectors.toList());
+    /**
+     * Returns the index of each column named in {@code headers}, by its case-folded name.
+     */
+    private static Map<String, Integer> getCsvColumns(List<String> headers) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            columns.putIfAbsent(StringUtil.foldCase(headers.get(i).trim()), i);
+        }
+        return columns;
+    }
 
-            JsonAdaptedPerson person = new JsonAdaptedPerson(name, phone, email, address, tags);
-            persons.add(person);
+    private static int getRequiredCsvColumn(Map<String, Integer> columns, String columnName) throws IOException {
+        Integer column = columns.get(StringUtil.foldCase(columnName));
+        if (column == null) {
+            throw new IOException(String.format(MESSAGE_MISSING_CSV_COLUMN, columnName));
         }
-        br.close();
-        return persons;
+        return column;
+    }
+
+    private static List<JsonAdaptedTag> getTagsFromCsv(String tags) {
+        return Arrays.stream(tags.split(CSV_TAG_SEPARATOR_REGEX))
+                .map(String::trim)
+                .filter(tagName -> !tagName.isEmpty())
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -233,4 +363,34 @@ public class ImportCommand extends Command {
         ImportCommand otherImportCommand = (ImportCommand) other;
         return files.equals(otherImportCommand.files);
     }
+
+    /**
+     * The persons read from an imported file, with how long reading them took.
+     */
+    public static class ImportedFile {
+        private final File file;
+        private final List<Person> persons;
+        private final long readingNanos;
+
+        /**
+         * Creates an {@code ImportedFile} of the {@code persons} read from {@code file} in {@code readingNanos}.
+         */
+        public ImportedFile(File file, List<Person> persons, long readingNanos) {
+            this.file = requireNonNull(file);
+            this.persons = Collections.unmodifiableList(requireNonNull(persons));
+            this.readingNanos = readingNanos;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        public long getReadingNanos() {
+            return readingNanos;
+        }
+    }
 }
@@ -2,11 +2,16 @@ package scm.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import scm.address.commons.util.ToStringBuilder;
+import scm.address.model.person.IndexedPersonPredicate;
 import scm.address.model.person.Person;
+import scm.address.model.person.PersonKeywordIndex;
 import scm.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +21,8 @@ import scm.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonKeywordIndex keywordIndex;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +33,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        keywordIndex = new PersonKeywordIndex(persons);
     }
 
     public AddressBook() {}
@@ -46,6 +54,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
+        keywordIndex.clear();
     }
 
     /**
@@ -73,6 +83,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+        keywordIndex.add(p);
+    }
+
+    /**
+     * Adds {@code toAdd} to the contact manager, in order.
+     * None of the persons may already exist in the contact manager, and {@code toAdd} must not contain duplicates.
+     */
+    public void addPersons(Collection<Person> toAdd) {
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        persons.addAll(toAdd);
+        version++;
+        toAdd.forEach(keywordIndex::add);
     }
 
     /**
@@ -85,6 +111,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
+        keywordIndex.remove(target);
+        keywordIndex.add(editedPerson);
     }
 
     /**
@@ -93,6 +122,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+        keywordIndex.remove(key);
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, found with the keyword index over the persons,
+     * or an empty {@code Optional} if the index cannot narrow them down.
+     *
+     * @param predicate Predicate the persons found must satisfy.
+     * @return The persons found, in no particular order.
+     */
+    public Optional<List<Person>> findPersons(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.findCandidates(keywordIndex)
+                .map(candidates -> candidates.stream().filter(predicate).collect(Collectors.toList()));
     }
 
     //// util methods
@@ -109,6 +153,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,7 +1,10 @@
 package scm.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import scm.address.commons.core.GuiSettings;
@@ -73,6 +76,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, in order, and shows all persons in the filtered person list.
+     * None of {@code persons} may already exist in the contact manager, and {@code persons} must not contain
+     * duplicates.
+     */
+    void addPersons(Collection<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the contact manager.
@@ -90,6 +100,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the persons in the address book that match {@code predicate}, in address book order, as an
+     * unmodifiable snapshot. The filtered person list is left as it is.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> findPersons(Predicate<Person> predicate);
+
+    /**
+     * Returns the persons in the address book that match {@code predicate}, in address book order, as a stream
+     * that only tests them as it is consumed, so the matches are never collected. The filtered person list is
+     * left as it is. The stream must be consumed before the address book next changes.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    Stream<Person> streamPersons(Predicate<Person> predicate);
+
     /**
      * Replaces schedule list data with the data in {@code scheduleList}.
      */
@@ -105,6 +130,13 @@ public interface Model {
      */
     void addSchedule(Schedule schedule);
 
+    /**
+     * Adds the given schedules, in order.
+     *
+     * @param schedules Schedules to be added.
+     */
+    void addSchedules(Collection<Schedule> schedules);
+
     /**
      * Sets the scheduleToEdit to editedSchedule.
      *
@@ -4,14 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static scm.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import scm.address.commons.core.GuiSettings;
 import scm.address.commons.core.LogsCenter;
+import scm.address.model.person.IndexedPersonPredicate;
 import scm.address.model.person.Person;
+import scm.address.model.schedule.IndexedSchedulePredicate;
 import scm.address.model.schedule.Schedule;
 
 /**
@@ -19,12 +29,16 @@ import scm.address.model.schedule.Schedule;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int QUERY_CACHE_CAPACITY = 32;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final ScheduleList scheduleList;
     private final FilteredList<Schedule> filteredSchedules;
+    private final QueryCache<IndexedPersonPredicate, Person> personQueryCache = new QueryCache<>(QUERY_CACHE_CAPACITY);
+    private final QueryCache<IndexedSchedulePredicate, Schedule> scheduleQueryCache =
+            new QueryCache<>(QUERY_CACHE_CAPACITY);
 
 
     /**
@@ -111,6 +125,16 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        if (persons.isEmpty()) {
+            return;
+        }
+
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -135,6 +159,11 @@ public class ModelManager implements Model {
         scheduleList.addSchedule(schedule);
     }
 
+    @Override
+    public void addSchedules(Collection<Schedule> schedules) {
+        scheduleList.addSchedules(schedules);
+    }
+
     @Override
     public void setSchedule(Schedule scheduleToEdit, Schedule editedSchedule) {
         requireAllNonNull(scheduleToEdit, editedSchedule);
@@ -148,13 +177,26 @@ public class ModelManager implements Model {
 
     /**
      * Updates the filtered schedule list to use {@code predicate}.
+     * The schedules matching an {@code IndexedSchedulePredicate} are found with the schedule list's interval index,
+     * and kept in the query cache until the schedule list changes.
      *
      * @param predicate The predicate to be used as a filter.
      */
     @Override
     public void updateFilteredScheduleList(Predicate<Schedule> predicate) {
         requireNonNull(predicate);
-        filteredSchedules.setPredicate(predicate);
+        Optional<List<Schedule>> matches = predicate instanceof IndexedSchedulePredicate
+                ? scheduleQueryCache.get((IndexedSchedulePredicate) predicate, scheduleList.getVersion(),
+                        scheduleList::findSchedules)
+                : Optional.empty();
+        if (matches.isEmpty()) {
+            filteredSchedules.setPredicate(predicate);
+            return;
+        }
+
+        IndexedFilter<Schedule> filter = new IndexedFilter<>(predicate, matches.get());
+        filteredSchedules.setPredicate(filter);
+        filter.releaseMatches();
     }
 
     /**
@@ -178,10 +220,74 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * Updates the filtered person list to use {@code predicate}.
+     * The persons matching an {@code IndexedPersonPredicate} are found with the address book's keyword index,
+     * and kept in the query cache until the address book changes.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        Optional<List<Person>> matches = findIndexedPersons(predicate);
+        if (matches.isEmpty()) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        IndexedFilter<Person> filter = new IndexedFilter<>(predicate, matches.get());
+        filteredPersons.setPredicate(filter);
+        filter.releaseMatches();
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} in address book order, without touching the filtered person
+     * list. The persons matching an {@code IndexedPersonPredicate} are looked up in the query cache, as they are
+     * when the filtered person list is updated.
+     */
+    @Override
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        return streamPersons(predicate).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} in address book order as they are tested, without touching
+     * the filtered person list. The persons matching an {@code IndexedPersonPredicate} are looked up in the query
+     * cache, as they are when the filtered person list is updated.
+     */
+    @Override
+    public Stream<Person> streamPersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        Predicate<Person> filter = findIndexedPersons(predicate)
+                .<Predicate<Person>>map(matches -> new IndexedFilter<>(predicate, matches))
+                .orElse(predicate);
+        return addressBook.getPersonList().stream().filter(filter);
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} found with the address book's keyword index, or an empty
+     * {@code Optional} if {@code predicate} cannot be looked up in the index.
+     */
+    private Optional<List<Person>> findIndexedPersons(Predicate<Person> predicate) {
+        return predicate instanceof IndexedPersonPredicate
+                ? personQueryCache.get((IndexedPersonPredicate) predicate, addressBook.getVersion(),
+                        addressBook::findPersons)
+                : Optional.empty();
+    }
+
+    //=========== Query Caches =============================================================================
+
+    /**
+     * Returns the cache of the persons found by indexed predicates, for its hit and miss counts.
+     */
+    public QueryCache<IndexedPersonPredicate, Person> getPersonQueryCache() {
+        return personQueryCache;
+    }
+
+    /**
+     * Returns the cache of the schedules found by indexed predicates, for its hit and miss counts.
+     */
+    public QueryCache<IndexedSchedulePredicate, Schedule> getScheduleQueryCache() {
+        return scheduleQueryCache;
     }
 
     @Override
@@ -201,4 +307,32 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Filters a list with the items found with an index when it is set as the predicate of the filtered list,
+     * so the list is refiltered without testing every item.
+     * Items added to the list afterwards are tested with the predicate itself.
+     */
+    private static class IndexedFilter<T> implements Predicate<T> {
+        private final Predicate<T> predicate;
+        private Set<T> matches;
+
+        IndexedFilter(Predicate<T> predicate, List<T> matches) {
+            this.predicate = predicate;
+            // Compared by reference, as the schedule list may hold equal schedules that are indexed separately
+            this.matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.matches.addAll(matches);
+        }
+
+        /**
+         * Tests the items with the predicate from now on, once the filtered list has been refiltered.
+         */
+        void releaseMatches() {
+            matches = null;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return matches != null ? matches.contains(item) : predicate.test(item);
+        }
+    }
 }
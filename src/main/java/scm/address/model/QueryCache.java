@@ -0,0 +1,93 @@
+package scm.address.model;
+
+import static scm.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import scm.address.commons.util.ToStringBuilder;
+
+/**
+ * A bounded cache of the results of queries on a list, keyed by the predicate of each query.
+ * The cache is emptied whenever the version of the list changes, and the least recently used result is evicted
+ * once the cache holds {@code capacity} results.
+ *
+ * @param <P> Type of the predicates, which must implement {@code equals} and {@code hashCode}.
+ * @param <T> Type of the items in the list.
+ */
+public class QueryCache<P, T> {
+
+    private final Map<P, Optional<List<T>>> results;
+    private long version;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache that holds at most {@code capacity} results.
+     */
+    public QueryCache(int capacity) {
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<P, Optional<List<T>>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result for {@code predicate} on the list at {@code version}, running {@code query} on
+     * {@code predicate} if it is not cached.
+     */
+    Optional<List<T>> get(P predicate, long version, Function<P, Optional<List<T>>> query) {
+        requireAllNonNull(predicate, query);
+        if (version != this.version) {
+            results.clear();
+            this.version = version;
+        }
+
+        Optional<List<T>> result = results.get(predicate);
+        if (result != null) {
+            hitCount++;
+            return result;
+        }
+
+        missCount++;
+        result = query.apply(predicate).map(Collections::unmodifiableList);
+        results.put(predicate, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of lookups that were answered from the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that had to run their query.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of results held in the cache.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("hits", hitCount)
+                .add("misses", missCount)
+                .add("size", results.size())
+                .toString();
+    }
+}
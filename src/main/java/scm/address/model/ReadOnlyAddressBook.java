@@ -14,4 +14,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the modification version of this address book.
+     * The version changes every time the persons list is modified, so two equal versions
+     * of the same address book instance mean its contents have not changed in between.
+     */
+    long getVersion();
+
 }
@@ -14,4 +14,13 @@ public interface ReadOnlyScheduleList {
      * @return An ObservableList of Schedules.
      */
     ObservableList<Schedule> getScheduleList();
+
+    /**
+     * Returns the modification version of this schedule list.
+     * The version changes every time the schedules are modified, so two equal versions
+     * of the same schedule list instance mean its contents have not changed in between.
+     *
+     * @return A modification counter.
+     */
+    long getVersion();
 }
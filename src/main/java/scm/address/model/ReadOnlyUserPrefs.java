@@ -2,6 +2,7 @@ package scm.address.model;
 
 import java.nio.file.Path;
 
+import scm.address.commons.core.DataFileFormat;
 import scm.address.commons.core.GuiSettings;
 
 /**
@@ -14,4 +15,6 @@ public interface ReadOnlyUserPrefs {
     Path getAddressBookFilePath();
 
     Path getScheduleListFilePath();
+
+    DataFileFormat getDataFileFormat();
 }
@@ -1,14 +1,20 @@
 package scm.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static scm.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import scm.address.commons.util.ToStringBuilder;
+import scm.address.model.schedule.IndexedSchedulePredicate;
 import scm.address.model.schedule.Schedule;
+import scm.address.model.schedule.ScheduleIntervalIndex;
 
 /**
  * Encapsulates the list of schedules.
@@ -17,6 +23,8 @@ public class ScheduleList implements Iterable<Schedule>, ReadOnlyScheduleList {
     private final ObservableList<Schedule> schedules = FXCollections.observableArrayList();
     private final ObservableList<Schedule> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(schedules);
+    private final ScheduleIntervalIndex intervalIndex = new ScheduleIntervalIndex();
+    private long version;
 
     /**
      * Constructor to create a new ScheduleList.
@@ -40,8 +48,11 @@ public class ScheduleList implements Iterable<Schedule>, ReadOnlyScheduleList {
      * @param schedules Schedule to be set to.
      */
     public void setSchedules(List<Schedule> schedules) {
-        requireNonNull(schedules);
+        requireAllNonNull(schedules);
+        intervalIndex.clear();
+        schedules.forEach(intervalIndex::add);
         this.schedules.setAll(schedules);
+        version++;
     }
 
     /**
@@ -63,7 +74,26 @@ public class ScheduleList implements Iterable<Schedule>, ReadOnlyScheduleList {
      */
     public void addSchedule(Schedule schedule) {
         requireNonNull(schedule);
+        intervalIndex.add(schedule);
         this.schedules.add(schedule);
+        version++;
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list of schedules, in order, as a single change.
+     * Requires {@code toAdd} and its schedules to be non-null.
+     *
+     * @param toAdd Schedules to be added.
+     */
+    public void addSchedules(Collection<Schedule> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        toAdd.forEach(intervalIndex::add);
+        this.schedules.addAll(toAdd);
+        version++;
     }
 
     /**
@@ -76,7 +106,10 @@ public class ScheduleList implements Iterable<Schedule>, ReadOnlyScheduleList {
         requireNonNull(target);
         requireNonNull(editedSchedule);
         int idx = schedules.indexOf(target);
-        schedules.set(idx, editedSchedule);
+        Schedule replaced = schedules.set(idx, editedSchedule);
+        intervalIndex.remove(replaced);
+        intervalIndex.add(editedSchedule);
+        version++;
     }
 
     /**
@@ -86,7 +119,24 @@ public class ScheduleList implements Iterable<Schedule>, ReadOnlyScheduleList {
      */
     public void removeSchedule(Schedule schedule) {
         requireNonNull(schedule);
-        schedules.remove(schedule);
+        int idx = schedules.indexOf(schedule);
+        if (idx != -1) {
+            intervalIndex.remove(schedules.remove(idx));
+            version++;
+        }
+    }
+
+    /**
+     * Returns the schedules that satisfy {@code predicate}, found with the interval index over the schedules,
+     * or an empty {@code Optional} if the index cannot narrow them down.
+     *
+     * @param predicate Predicate the schedules found must satisfy.
+     * @return The schedules found, ordered by their date and times rather than their position in the list.
+     */
+    public Optional<List<Schedule>> findSchedules(IndexedSchedulePredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.findCandidates(intervalIndex)
+                .map(candidates -> candidates.stream().filter(predicate).collect(Collectors.toList()));
     }
 
     /**
@@ -121,6 +171,16 @@ public class ScheduleList implements Iterable<Schedule>, ReadOnlyScheduleList {
         return this.internalUnmodifiableList;
     }
 
+    /**
+     * Returns the modification version of this schedule list.
+     *
+     * @return A modification counter.
+     */
+    @Override
+    public long getVersion() {
+        return this.version;
+    }
+
     /**
      * Returns whether this instance is equal to another instance of ScheduleList.
      * Returns true only if the list of schedules are equal.
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import scm.address.commons.core.DataFileFormat;
 import scm.address.commons.core.GuiSettings;
 
 /**
@@ -16,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path scheduleListFilePath = Paths.get("data", "schedulelist.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +40,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setScheduleListFilePath(newUserPrefs.getScheduleListFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +70,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.scheduleListFilePath = scheduleListFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +92,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && dataFileFormat == otherUserPrefs.dataFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, dataFileFormat);
     }
 
     @Override
@@ -93,6 +106,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nData file format : " + dataFileFormat);
         return sb.toString();
     }
 
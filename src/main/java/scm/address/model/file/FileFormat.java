@@ -8,17 +8,19 @@ import scm.address.commons.exceptions.IllegalValueException;
 
 /**
  * Represents the file format of a file.
+ * A file may be gzip-compressed, as shown by a {@code .gz} extension after the extension of its format.
  */
 public class FileFormat {
     public static final String JSON_FILE = "json";
     public static final String CSV_FILE = "csv";
+    public static final String GZIP_EXTENSION = ".gz";
     public static final String MESSAGE_INVALID_FILE_FORMAT = "Invalid file format!";
     public static final String MESSAGE_UNSUPPORTED_FILE_FORMAT = "Unsupported file format!";
 
 
     /**
-     * Returns the file format of the {@code file}. Throws an {@code IllegalValueException} if the file format is not
-     * found, or is unsupported.
+     * Returns the file format of the {@code file}, which is the format of its content if it is gzip-compressed.
+     * Throws an {@code IllegalValueException} if the file format is not found, or is unsupported.
      *
      * @param file A File.
      * @return The file format of the {@code file}.
@@ -27,6 +29,9 @@ public class FileFormat {
     public static String getFileFormat(File file) throws IllegalValueException {
         requireNonNull(file);
         String fileName = file.getName();
+        if (isGzipCompressed(file)) {
+            fileName = fileName.substring(0, fileName.length() - GZIP_EXTENSION.length());
+        }
         int index = fileName.lastIndexOf(".");
         if (index == -1) {
             throw new IllegalValueException(MESSAGE_INVALID_FILE_FORMAT);
@@ -42,4 +47,15 @@ public class FileFormat {
             throw new IllegalValueException(MESSAGE_UNSUPPORTED_FILE_FORMAT);
         }
     }
+
+    /**
+     * Returns true if the {@code file} is gzip-compressed, as shown by its {@code .gz} extension.
+     *
+     * @param file A File.
+     * @return A boolean.
+     */
+    public static boolean isGzipCompressed(File file) {
+        requireNonNull(file);
+        return file.getName().toLowerCase().endsWith(GZIP_EXTENSION);
+    }
 }
@@ -7,11 +7,12 @@ import static java.util.Objects.requireNonNull;
  * Guarantees: immutable; filename is valid as declared in {@link #isValidFilename(String)}
  */
 public class Filename {
-    public static final String MESSAGE_CONSTRAINTS = "Filenames should be alphanumeric and .json or .csv files. "
-            + "Example: 'myContacts.json' or 'myContacts2.csv'";
+    public static final String MESSAGE_CONSTRAINTS = "Filenames should be alphanumeric and .json or .csv files, "
+            + "which may be gzip-compressed as .json.gz or .csv.gz files. "
+            + "Example: 'myContacts.json', 'myContacts2.csv' or 'myContacts3.csv.gz'";
 
     public static final String MESSAGE_DUPLICATE = "Filenames should be unique.";
-    public static final String VALIDATION_REGEX = "(\\p{Alnum}+\\.json)|(\\p{Alnum}+\\.csv)";
+    public static final String VALIDATION_REGEX = "\\p{Alnum}+\\.(json|csv)(\\.gz)?";
 
     public final String filename;
 
@@ -1,7 +1,9 @@
 package scm.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import scm.address.commons.util.StringUtil;
 import scm.address.commons.util.ToStringBuilder;
@@ -9,11 +11,18 @@ import scm.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that tests for any of {@code keywords}.
+     */
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .toArray(String[]::new);
     }
 
     @Override
@@ -22,9 +31,24 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
             return true;
         }
 
-        return keywords
-                .stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
+        String[] words = person.getFoldedAddressWords();
+        for (String foldedKeyword : foldedKeywords) {
+            if (StringUtil.containsFoldedWord(words, foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonKeywordIndex index) {
+        if (keywords.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(PersonKeywordIndex.union(keywords.stream()
+                .map(index::findByAddressWord)
+                .collect(Collectors.toList())));
     }
 
     @Override
@@ -43,6 +67,11 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherAddressContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     public List<String> getKeywords() {
         return keywords;
     }
@@ -0,0 +1,64 @@
+package scm.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import scm.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Address} contains the substring given, ignoring case.
+ */
+public class AddressContainsSubstringPredicate implements IndexedPersonPredicate {
+    private final String substring;
+    private final String lowerCaseSubstring;
+
+    /**
+     * Creates a predicate that tests for {@code substring}.
+     */
+    public AddressContainsSubstringPredicate(String substring) {
+        requireNonNull(substring);
+        this.substring = substring;
+        this.lowerCaseSubstring = substring.toLowerCase();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getLowerCaseAddress().contains(lowerCaseSubstring);
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonKeywordIndex index) {
+        return index.findByAddressSubstring(substring);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressContainsSubstringPredicate)) {
+            return false;
+        }
+
+        AddressContainsSubstringPredicate otherPredicate = (AddressContainsSubstringPredicate) other;
+        return substring.equals(otherPredicate.substring);
+    }
+
+    @Override
+    public int hashCode() {
+        return substring.hashCode();
+    }
+
+    public String getSubstring() {
+        return substring;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("substring", substring).toString();
+    }
+}
@@ -0,0 +1,62 @@
+package scm.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import scm.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has a tag named exactly the tag name given.
+ */
+public class HasTagPredicate implements IndexedPersonPredicate {
+    private final String tagName;
+
+    /**
+     * Creates a predicate that tests for a tag named {@code tagName}.
+     */
+    public HasTagPredicate(String tagName) {
+        requireNonNull(tagName);
+        this.tagName = tagName;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getTags().stream().anyMatch(tag -> tag.tagName.equals(tagName));
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonKeywordIndex index) {
+        return Optional.of(index.findByTag(tagName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HasTagPredicate)) {
+            return false;
+        }
+
+        HasTagPredicate otherPredicate = (HasTagPredicate) other;
+        return tagName.equals(otherPredicate.tagName);
+    }
+
+    @Override
+    public int hashCode() {
+        return tagName.hashCode();
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tagName", tagName).toString();
+    }
+}
@@ -0,0 +1,86 @@
+package scm.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on persons whose matches can be narrowed down with a {@code PersonKeywordIndex},
+ * instead of testing every person.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that may satisfy this predicate, which include all the persons
+     * in {@code index} that do, or an empty {@code Optional} if the index cannot narrow them down.
+     */
+    Optional<Set<Person>> findCandidates(PersonKeywordIndex index);
+
+    /**
+     * Returns a predicate that is the logical AND of this predicate and {@code other}.
+     * Its candidates are the fewer of the candidates of this predicate and of {@code other}, if indexed.
+     */
+    @Override
+    default IndexedPersonPredicate and(Predicate<? super Person> other) {
+        return new Conjunction(this, other);
+    }
+
+    /**
+     * The logical AND of an indexed predicate and another predicate, equal to another conjunction of equal
+     * predicates.
+     */
+    final class Conjunction implements IndexedPersonPredicate {
+        private final IndexedPersonPredicate first;
+        private final Predicate<? super Person> second;
+
+        private Conjunction(IndexedPersonPredicate first, Predicate<? super Person> second) {
+            this.first = requireNonNull(first);
+            this.second = requireNonNull(second);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return first.test(person) && second.test(person);
+        }
+
+        @Override
+        public Optional<Set<Person>> findCandidates(PersonKeywordIndex index) {
+            Optional<Set<Person>> firstCandidates = first.findCandidates(index);
+            if (!(second instanceof IndexedPersonPredicate)) {
+                return firstCandidates;
+            }
+
+            Optional<Set<Person>> secondCandidates = ((IndexedPersonPredicate) second).findCandidates(index);
+            if (firstCandidates.isEmpty()) {
+                return secondCandidates;
+            }
+            if (secondCandidates.isEmpty() || firstCandidates.get().size() <= secondCandidates.get().size()) {
+                return firstCandidates;
+            }
+            return secondCandidates;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Conjunction)) {
+                return false;
+            }
+
+            Conjunction otherConjunction = (Conjunction) other;
+            return first.equals(otherConjunction.first) && second.equals(otherConjunction.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(first, second);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package scm.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import scm.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} contains the substring given, ignoring case.
+ */
+public class NameContainsSubstringPredicate implements IndexedPersonPredicate {
+    private final String substring;
+    private final String lowerCaseSubstring;
+
+    /**
+     * Creates a predicate that tests for {@code substring}.
+     */
+    public NameContainsSubstringPredicate(String substring) {
+        requireNonNull(substring);
+        this.substring = substring;
+        this.lowerCaseSubstring = substring.toLowerCase();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getLowerCaseName().contains(lowerCaseSubstring);
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonKeywordIndex index) {
+        return index.findByNameSubstring(substring);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameContainsSubstringPredicate)) {
+            return false;
+        }
+
+        NameContainsSubstringPredicate otherPredicate = (NameContainsSubstringPredicate) other;
+        return substring.equals(otherPredicate.substring);
+    }
+
+    @Override
+    public int hashCode() {
+        return substring.hashCode();
+    }
+
+    public String getSubstring() {
+        return substring;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("substring", substring).toString();
+    }
+}
@@ -2,11 +2,14 @@ package scm.address.model.person;
 
 import static scm.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import scm.address.commons.util.StringUtil;
 import scm.address.commons.util.ToStringBuilder;
 import scm.address.model.tag.Tag;
 
@@ -25,6 +28,9 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Derived from the fields on the first search
+    private SearchFields searchFields;
+
     /**
      * Every field must be present and not null.
      */
@@ -61,6 +67,44 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the case-folded words of the name, as given by {@link StringUtil#getFoldedWords(String)}.
+     */
+    String[] getFoldedNameWords() {
+        return getSearchFields().foldedNameWords;
+    }
+
+    /**
+     * Returns the case-folded words of the address, as given by {@link StringUtil#getFoldedWords(String)}.
+     */
+    String[] getFoldedAddressWords() {
+        return getSearchFields().foldedAddressWords;
+    }
+
+    /**
+     * Returns the case-folded words of all the tag names, as given by {@link StringUtil#getFoldedWords(String)}.
+     */
+    String[] getFoldedTagWords() {
+        return getSearchFields().foldedTagWords;
+    }
+
+    String getLowerCaseName() {
+        return getSearchFields().lowerCaseName;
+    }
+
+    String getLowerCaseAddress() {
+        return getSearchFields().lowerCaseAddress;
+    }
+
+    private SearchFields getSearchFields() {
+        SearchFields fields = searchFields;
+        if (fields == null) {
+            fields = new SearchFields(this);
+            searchFields = fields;
+        }
+        return fields;
+    }
+
     /**
      * Returns true if both persons have the same name, email, phone, and address.
      * This defines a weaker notion of equality between two persons.
@@ -117,4 +161,28 @@ public class Person {
                 .toString();
     }
 
+    /**
+     * The normalised forms of a person's fields that searches match against, so they are not derived again
+     * for every person on every search.
+     * Its fields are final, so a person can be searched from several threads without locking.
+     */
+    private static class SearchFields {
+        private final String[] foldedNameWords;
+        private final String[] foldedAddressWords;
+        private final String[] foldedTagWords;
+        private final String lowerCaseName;
+        private final String lowerCaseAddress;
+
+        SearchFields(Person person) {
+            foldedNameWords = StringUtil.getFoldedWords(person.name.fullName);
+            foldedAddressWords = StringUtil.getFoldedWords(person.address.value);
+            List<String> tagWords = new ArrayList<>();
+            for (Tag tag : person.tags) {
+                Collections.addAll(tagWords, StringUtil.getFoldedWords(tag.tagName));
+            }
+            foldedTagWords = tagWords.toArray(new String[0]);
+            lowerCaseName = person.name.fullName.toLowerCase();
+            lowerCaseAddress = person.address.value.toLowerCase();
+        }
+    }
 }
@@ -0,0 +1,221 @@
+package scm.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import scm.address.commons.util.StringUtil;
+import scm.address.commons.util.TrigramIndex;
+
+/**
+ * An index of persons by the words in their names and addresses, by the substrings of their names
+ * and addresses, and by their tags.
+ * Words are matched as {@code String#equalsIgnoreCase} does, so a word lookup finds exactly the persons for whom
+ * {@code StringUtil#containsWordIgnoreCase} holds on the field. Substring lookups only narrow down the persons
+ * whose field may contain the substring.
+ * <p>
+ * The words, the substrings and the tags are each indexed from the persons the index is created over on their
+ * first lookup, so an index that is never searched costs nothing. Once indexed, they are kept up to date by
+ * {@link #add} and {@link #remove}.
+ */
+public class PersonKeywordIndex {
+
+    private final Iterable<Person> persons;
+    private final Map<String, Set<Person>> personsByNameWord = new HashMap<>();
+    private final Map<String, Set<Person>> personsByAddressWord = new HashMap<>();
+    private final TrigramIndex<Person> nameTrigrams = new TrigramIndex<>();
+    private final TrigramIndex<Person> addressTrigrams = new TrigramIndex<>();
+    private final PersonTagIndex tagIndex = new PersonTagIndex();
+    private boolean areWordsIndexed;
+    private boolean areSubstringsIndexed;
+    private boolean areTagsIndexed;
+
+    /**
+     * Creates an index over {@code persons}.
+     * Every change to {@code persons} must be followed by the matching {@link #add}, {@link #remove} or
+     * {@link #clear} call.
+     */
+    public PersonKeywordIndex(Iterable<Person> persons) {
+        this.persons = requireNonNull(persons);
+    }
+
+    /**
+     * Adds {@code person}, which has just been added to the persons, to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (areWordsIndexed) {
+            addWords(person);
+        }
+        if (areSubstringsIndexed) {
+            addSubstrings(person);
+        }
+        if (areTagsIndexed) {
+            tagIndex.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which has just been removed from the persons, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (areWordsIndexed) {
+            removePostings(personsByNameWord, person.getFoldedNameWords(), person);
+            removePostings(personsByAddressWord, person.getFoldedAddressWords(), person);
+        }
+        if (areSubstringsIndexed) {
+            nameTrigrams.remove(person, person.getName().fullName);
+            addressTrigrams.remove(person, person.getAddress().value);
+        }
+        if (areTagsIndexed) {
+            tagIndex.remove(person);
+        }
+    }
+
+    /**
+     * Drops the index, after the persons have been replaced. It is indexed again on the next lookup.
+     */
+    public void clear() {
+        personsByNameWord.clear();
+        personsByAddressWord.clear();
+        nameTrigrams.clear();
+        addressTrigrams.clear();
+        tagIndex.clear();
+        areWordsIndexed = false;
+        areSubstringsIndexed = false;
+        areTagsIndexed = false;
+    }
+
+    /**
+     * Returns the persons with {@code word} in their name.
+     */
+    public Set<Person> findByNameWord(String word) {
+        return findPostings(personsByNameWord, word);
+    }
+
+    /**
+     * Returns the persons with {@code word} in their address.
+     */
+    public Set<Person> findByAddressWord(String word) {
+        return findPostings(personsByAddressWord, word);
+    }
+
+    /**
+     * Returns the persons with a tag named any of {@code tagNames}, ignoring case, as a view that is only valid
+     * until the index changes.
+     */
+    public Set<Person> findByAnyTagIgnoreCase(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        indexTags();
+        return tagIndex.getPersons(tagIndex.getSlotsWithAnyTagIgnoreCase(tagNames));
+    }
+
+    /**
+     * Returns the persons with a tag named exactly {@code tagName}, as a view that is only valid until the index
+     * changes.
+     */
+    public Set<Person> findByTag(String tagName) {
+        requireNonNull(tagName);
+        indexTags();
+        return tagIndex.getPersons(tagIndex.getSlotsWithTag(tagName));
+    }
+
+    /**
+     * Returns the persons whose name may contain {@code substring}, ignoring case, or an empty {@code Optional}
+     * if {@code substring} is too short to narrow them down.
+     */
+    public Optional<Set<Person>> findByNameSubstring(String substring) {
+        requireNonNull(substring);
+        indexSubstrings();
+        return nameTrigrams.findCandidates(substring);
+    }
+
+    /**
+     * Returns the persons whose address may contain {@code substring}, ignoring case, or an empty
+     * {@code Optional} if {@code substring} is too short to narrow them down.
+     */
+    public Optional<Set<Person>> findByAddressSubstring(String substring) {
+        requireNonNull(substring);
+        indexSubstrings();
+        return addressTrigrams.findCandidates(substring);
+    }
+
+    private Set<Person> findPostings(Map<String, Set<Person>> postings, String word) {
+        requireNonNull(word);
+        indexWords();
+        Set<Person> persons = postings.get(StringUtil.foldCase(word.trim()));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    private void indexWords() {
+        if (!areWordsIndexed) {
+            persons.forEach(this::addWords);
+            areWordsIndexed = true;
+        }
+    }
+
+    private void indexSubstrings() {
+        if (!areSubstringsIndexed) {
+            persons.forEach(this::addSubstrings);
+            areSubstringsIndexed = true;
+        }
+    }
+
+    private void indexTags() {
+        if (!areTagsIndexed) {
+            persons.forEach(tagIndex::add);
+            areTagsIndexed = true;
+        }
+    }
+
+    private void addWords(Person person) {
+        addPostings(personsByNameWord, person.getFoldedNameWords(), person);
+        addPostings(personsByAddressWord, person.getFoldedAddressWords(), person);
+    }
+
+    private void addSubstrings(Person person) {
+        nameTrigrams.add(person, person.getName().fullName);
+        addressTrigrams.add(person, person.getAddress().value);
+    }
+
+    private static void addPostings(Map<String, Set<Person>> postings, String[] words, Person person) {
+        for (String word : words) {
+            postings.computeIfAbsent(word, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Person>> postings, String[] words, Person person) {
+        for (String word : words) {
+            Set<Person> persons = postings.get(word);
+            if (persons == null) {
+                continue;
+            }
+
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the union of {@code postingLists}, without copying when there is only one.
+     */
+    static Set<Person> union(List<Set<Person>> postingLists) {
+        if (postingLists.size() == 1) {
+            return postingLists.get(0);
+        }
+
+        Set<Person> union = new HashSet<>();
+        postingLists.forEach(union::addAll);
+        return union;
+    }
+}
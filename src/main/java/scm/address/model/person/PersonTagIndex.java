@@ -0,0 +1,195 @@
+package scm.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import scm.address.commons.util.CompressedBitmap;
+import scm.address.commons.util.StringUtil;
+import scm.address.model.tag.Tag;
+
+/**
+ * An index of persons by their tags.
+ * Each tag name is given a dense integer ID and each person a slot, and every tag has a compressed bitmap of the
+ * slots of the persons with it, so tag queries are combined with bitmap operations and the number of persons with
+ * a tag is known without counting them.
+ */
+public class PersonTagIndex {
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final Map<String, List<Integer>> tagIdsByFoldedName = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+    private final List<CompressedBitmap> slotsByTagId = new ArrayList<>();
+
+    private final Map<Person, Integer> slots = new HashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final CompressedBitmap allSlots = new CompressedBitmap();
+
+    /**
+     * Adds {@code person} to the index.
+     * The index must not already contain a person equal to {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = freeSlots.isEmpty() ? personsBySlot.size() : freeSlots.pop();
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        slots.put(person, slot);
+        allSlots.add(slot);
+        for (Tag tag : person.getTags()) {
+            slotsByTagId.get(getOrCreateTagId(tag.tagName)).add(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     * {@code person} must be in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+
+        for (Tag tag : person.getTags()) {
+            slotsByTagId.get(tagIds.get(tag.tagName)).remove(slot);
+        }
+        allSlots.remove(slot);
+        personsBySlot.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Removes all persons and tags from the index.
+     */
+    public void clear() {
+        tagIds.clear();
+        tagIdsByFoldedName.clear();
+        tagNames.clear();
+        slotsByTagId.clear();
+        slots.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+        allSlots.clear();
+    }
+
+    /**
+     * Returns the slots of all the persons in the index, for negating tag queries.
+     */
+    public CompressedBitmap getAllSlots() {
+        return allSlots.copy();
+    }
+
+    /**
+     * Returns the slots of the persons with a tag named exactly {@code tagName}.
+     */
+    public CompressedBitmap getSlotsWithTag(String tagName) {
+        requireNonNull(tagName);
+        Integer tagId = tagIds.get(tagName);
+        return tagId == null ? new CompressedBitmap() : slotsByTagId.get(tagId).copy();
+    }
+
+    /**
+     * Returns the slots of the persons with a tag named {@code tagName}, ignoring case.
+     */
+    public CompressedBitmap getSlotsWithTagIgnoreCase(String tagName) {
+        requireNonNull(tagName);
+        CompressedBitmap result = new CompressedBitmap();
+        for (int tagId : tagIdsByFoldedName.getOrDefault(StringUtil.foldCase(tagName.trim()), List.of())) {
+            result = result.or(slotsByTagId.get(tagId));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of the persons with any of {@code tagNames}, ignoring case.
+     */
+    public CompressedBitmap getSlotsWithAnyTagIgnoreCase(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        CompressedBitmap result = new CompressedBitmap();
+        for (String tagName : tagNames) {
+            result = result.or(getSlotsWithTagIgnoreCase(tagName));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons in {@code slots}, as a view that is only valid until the index changes.
+     */
+    public Set<Person> getPersons(CompressedBitmap slots) {
+        requireNonNull(slots);
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Person> iterator() {
+                PrimitiveIterator.OfInt slotIterator = slots.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return slotIterator.hasNext();
+                    }
+
+                    @Override
+                    public Person next() {
+                        return personsBySlot.get(slotIterator.nextInt());
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object person) {
+                Integer slot = PersonTagIndex.this.slots.get(person);
+                return slot != null && slots.contains(slot);
+            }
+
+            @Override
+            public int size() {
+                return slots.cardinality();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of persons with each tag name, for the tag names that some person has.
+     */
+    public Map<String, Integer> getTagCounts() {
+        Map<String, Integer> tagCounts = new LinkedHashMap<>();
+        for (int tagId = 0; tagId < tagNames.size(); tagId++) {
+            int count = slotsByTagId.get(tagId).cardinality();
+            if (count > 0) {
+                tagCounts.put(tagNames.get(tagId), count);
+            }
+        }
+        return tagCounts;
+    }
+
+    private int getOrCreateTagId(String tagName) {
+        Integer tagId = tagIds.get(tagName);
+        if (tagId != null) {
+            return tagId;
+        }
+
+        int newTagId = tagNames.size();
+        tagIds.put(tagName, newTagId);
+        tagIdsByFoldedName.computeIfAbsent(StringUtil.foldCase(tagName), unused -> new ArrayList<>())
+                .add(newTagId);
+        tagNames.add(tagName);
+        slotsByTagId.add(new CompressedBitmap());
+        return newTagId;
+    }
+}
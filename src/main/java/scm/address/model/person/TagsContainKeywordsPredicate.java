@@ -1,7 +1,8 @@
 package scm.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
 import scm.address.commons.util.StringUtil;
 import scm.address.commons.util.ToStringBuilder;
@@ -9,11 +10,18 @@ import scm.address.commons.util.ToStringBuilder;
 /**
  * Tests that any of a {@code Person}'s {@code Tags} matches any of the keywords given.
  */
-public class TagsContainKeywordsPredicate implements Predicate<Person> {
+public class TagsContainKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that tests for any of {@code keywords}.
+     */
     public TagsContainKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .toArray(String[]::new);
     }
 
     @Override
@@ -22,13 +30,22 @@ public class TagsContainKeywordsPredicate implements Predicate<Person> {
             return true;
         }
 
-        if (person.getTags().isEmpty()) {
-            return false;
+        String[] words = person.getFoldedTagWords();
+        for (String foldedKeyword : foldedKeywords) {
+            if (StringUtil.containsFoldedWord(words, foldedKeyword)) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        return person.getTags().stream()
-                .anyMatch(tag -> keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword)));
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonKeywordIndex index) {
+        if (keywords.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.findByAnyTagIgnoreCase(keywords));
     }
 
     @Override
@@ -46,6 +63,11 @@ public class TagsContainKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherTagsContainKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     public List<String> getKeywords() {
         return keywords;
     }
@@ -3,8 +3,13 @@ package scm.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static scm.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +23,9 @@ import scm.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The identities of the persons in the list are kept in a hash index, so checking whether a person is in the list
+ * takes constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +35,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<PersonIdentity> identities = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identities.contains(new PersonIdentity(toCheck));
     }
 
     /**
@@ -42,12 +51,31 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identities.add(new PersonIdentity(toAdd))) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(toAdd);
+        Set<PersonIdentity> addedIdentities = getIdentities(persons);
+        if (addedIdentities.size() != persons.size() || addedIdentities.stream().anyMatch(identities::contains)) {
+            throw new DuplicatePersonException();
+        }
+        identities.addAll(addedIdentities);
+        internalList.addAll(persons);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -61,8 +89,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+        if (!target.isSamePerson(editedPerson)) {
+            if (contains(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            identities.remove(new PersonIdentity(target));
+            identities.add(new PersonIdentity(editedPerson));
         }
 
         internalList.set(index, editedPerson);
@@ -77,10 +109,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identities.remove(new PersonIdentity(toRemove));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +125,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Set<PersonIdentity> newIdentities = getIdentities(persons);
+        if (newIdentities.size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
+        identities.clear();
+        identities.addAll(newIdentities);
         internalList.setAll(persons);
     }
 
@@ -135,16 +173,54 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the identities of {@code persons}, which has fewer elements than {@code persons}
+     * if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Set<PersonIdentity> getIdentities(List<Person> persons) {
+        Set<PersonIdentity> personIdentities = new HashSet<>();
+        for (Person person : persons) {
+            personIdentities.add(new PersonIdentity(person));
+        }
+        return personIdentities;
+    }
+
+    /**
+     * The identity fields of a person, as compared by {@code Person#isSamePerson(Person)}.
+     */
+    private static class PersonIdentity {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+
+        PersonIdentity(Person person) {
+            name = person.getName();
+            phone = person.getPhone();
+            email = person.getEmail();
+            address = person.getAddress();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
+
+            // instanceof handles nulls
+            if (!(other instanceof PersonIdentity)) {
+                return false;
+            }
+
+            PersonIdentity otherIdentity = (PersonIdentity) other;
+            return name.equals(otherIdentity.name)
+                    && phone.equals(otherIdentity.phone)
+                    && email.equals(otherIdentity.email)
+                    && address.equals(otherIdentity.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, email, address);
         }
-        return true;
     }
 }
@@ -1,15 +1,15 @@
 package scm.address.model.schedule;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import scm.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Schedule}'s {@code startDateTime} is on or after the given date and time.
  */
-public class AfterDateTimePredicate implements Predicate<Schedule> {
+public class AfterDateTimePredicate implements IndexedSchedulePredicate {
     private final Optional<LocalDateTime> dateTime;
 
     public AfterDateTimePredicate(Optional<LocalDateTime> dateTime) {
@@ -26,6 +26,11 @@ public class AfterDateTimePredicate implements Predicate<Schedule> {
         }
     }
 
+    @Override
+    public Optional<List<Schedule>> findCandidates(ScheduleIntervalIndex index) {
+        return dateTime.map(index::findStartingAfter);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -41,6 +46,11 @@ public class AfterDateTimePredicate implements Predicate<Schedule> {
         return dateTime.equals(otherAfterDateTimePredicate.dateTime);
     }
 
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode();
+    }
+
     public Optional<LocalDateTime> getDateTime() {
         return dateTime;
     }
@@ -1,15 +1,15 @@
 package scm.address.model.schedule;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import scm.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Schedule}'s {@code endDateTime} is on or before the given date and time.
  */
-public class BeforeDateTimePredicate implements Predicate<Schedule> {
+public class BeforeDateTimePredicate implements IndexedSchedulePredicate {
     private final Optional<LocalDateTime> dateTime;
 
     public BeforeDateTimePredicate(Optional<LocalDateTime> dateTime) {
@@ -26,6 +26,11 @@ public class BeforeDateTimePredicate implements Predicate<Schedule> {
         }
     }
 
+    @Override
+    public Optional<List<Schedule>> findCandidates(ScheduleIntervalIndex index) {
+        return dateTime.map(index::findEndingBefore);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -41,6 +46,11 @@ public class BeforeDateTimePredicate implements Predicate<Schedule> {
         return dateTime.equals(otherBeforeDateTimePredicate.dateTime);
     }
 
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode();
+    }
+
     public Optional<LocalDateTime> getDateTime() {
         return dateTime;
     }
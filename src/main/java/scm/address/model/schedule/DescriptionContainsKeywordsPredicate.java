@@ -42,6 +42,11 @@ public class DescriptionContainsKeywordsPredicate implements Predicate<Schedule>
         return keywords.equals(otherDescriptionContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     public List<String> getKeywords() {
         return keywords;
     }
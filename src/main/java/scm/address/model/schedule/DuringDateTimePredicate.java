@@ -1,8 +1,8 @@
 package scm.address.model.schedule;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import scm.address.commons.util.ToStringBuilder;
 
@@ -10,7 +10,7 @@ import scm.address.commons.util.ToStringBuilder;
  * Tests that the given date and time lies between the {@code Schedule}'s {@code startDateTime}
  * and {@code endDateTime} inclusive.
  */
-public class DuringDateTimePredicate implements Predicate<Schedule> {
+public class DuringDateTimePredicate implements IndexedSchedulePredicate {
     private final Optional<LocalDateTime> dateTime;
 
     public DuringDateTimePredicate(Optional<LocalDateTime> dateTime) {
@@ -28,6 +28,11 @@ public class DuringDateTimePredicate implements Predicate<Schedule> {
         }
     }
 
+    @Override
+    public Optional<List<Schedule>> findCandidates(ScheduleIntervalIndex index) {
+        return dateTime.map(index::findOngoingAt);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -43,6 +48,11 @@ public class DuringDateTimePredicate implements Predicate<Schedule> {
         return dateTime.equals(otherDuringDateTimePredicate.dateTime);
     }
 
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode();
+    }
+
     public Optional<LocalDateTime> getDateTime() {
         return dateTime;
     }
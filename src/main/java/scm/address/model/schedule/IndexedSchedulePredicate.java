@@ -0,0 +1,86 @@
+package scm.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on schedules whose matches can be narrowed down with a {@code ScheduleIntervalIndex},
+ * instead of testing every schedule.
+ */
+public interface IndexedSchedulePredicate extends Predicate<Schedule> {
+
+    /**
+     * Returns the schedules in {@code index} that may satisfy this predicate, which include all the schedules
+     * in {@code index} that do, or an empty {@code Optional} if the index cannot narrow them down.
+     */
+    Optional<List<Schedule>> findCandidates(ScheduleIntervalIndex index);
+
+    /**
+     * Returns a predicate that is the logical AND of this predicate and {@code other}.
+     * Its candidates are the fewer of the candidates of this predicate and of {@code other}, if indexed.
+     */
+    @Override
+    default IndexedSchedulePredicate and(Predicate<? super Schedule> other) {
+        return new Conjunction(this, other);
+    }
+
+    /**
+     * The logical AND of an indexed predicate and another predicate, equal to another conjunction of equal
+     * predicates.
+     */
+    final class Conjunction implements IndexedSchedulePredicate {
+        private final IndexedSchedulePredicate first;
+        private final Predicate<? super Schedule> second;
+
+        private Conjunction(IndexedSchedulePredicate first, Predicate<? super Schedule> second) {
+            this.first = requireNonNull(first);
+            this.second = requireNonNull(second);
+        }
+
+        @Override
+        public boolean test(Schedule schedule) {
+            return first.test(schedule) && second.test(schedule);
+        }
+
+        @Override
+        public Optional<List<Schedule>> findCandidates(ScheduleIntervalIndex index) {
+            Optional<List<Schedule>> firstCandidates = first.findCandidates(index);
+            if (!(second instanceof IndexedSchedulePredicate)) {
+                return firstCandidates;
+            }
+
+            Optional<List<Schedule>> secondCandidates = ((IndexedSchedulePredicate) second).findCandidates(index);
+            if (firstCandidates.isEmpty()) {
+                return secondCandidates;
+            }
+            if (secondCandidates.isEmpty() || firstCandidates.get().size() <= secondCandidates.get().size()) {
+                return firstCandidates;
+            }
+            return secondCandidates;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Conjunction)) {
+                return false;
+            }
+
+            Conjunction otherConjunction = (Conjunction) other;
+            return first.equals(otherConjunction.first) && second.equals(otherConjunction.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(first, second);
+        }
+    }
+}
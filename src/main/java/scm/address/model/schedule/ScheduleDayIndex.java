@@ -0,0 +1,137 @@
+package scm.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+/**
+ * An index of the schedules in a list by the days they take place on, kept up to date as the list changes.
+ * Schedules are indexed by their intervals, so a schedule that spans several days costs the same to index as one
+ * that does not, and the schedules of a day are found by the interval the day covers. Listeners are told which
+ * days were affected by each change of the list.
+ * <p>
+ * The index only holds a weak reference to the list's listener, so it can be garbage collected
+ * while the list is still in use.
+ */
+public class ScheduleDayIndex {
+
+    private final ScheduleIntervalIndex intervalIndex = new ScheduleIntervalIndex();
+    private final ListChangeListener<Schedule> listener = this::handleChange;
+    private final List<Consumer<Predicate<LocalDate>>> daysChangedListeners = new ArrayList<>();
+
+    /**
+     * Creates an index of {@code schedules} that is updated whenever {@code schedules} changes.
+     */
+    public ScheduleDayIndex(ObservableList<Schedule> schedules) {
+        requireNonNull(schedules);
+        schedules.forEach(intervalIndex::add);
+        schedules.addListener(new WeakListChangeListener<>(listener));
+    }
+
+    /**
+     * Returns the schedules that take place on {@code date}, ordered by start date and time.
+     */
+    public List<Schedule> getSchedulesOn(LocalDate date) {
+        requireNonNull(date);
+        List<Schedule> schedules = intervalIndex.findOverlapping(date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay());
+        schedules.removeIf(schedule -> !takesPlaceOn(schedule, date));
+        return schedules;
+    }
+
+    /**
+     * Adds a listener that is given a test of whether the schedules of a day have changed, whenever the list
+     * changes. The test is only valid during the call.
+     */
+    public void addDaysChangedListener(Consumer<Predicate<LocalDate>> daysChangedListener) {
+        requireNonNull(daysChangedListener);
+        daysChangedListeners.add(daysChangedListener);
+    }
+
+    /**
+     * Returns true if {@code schedule} takes place on {@code date}, which is any day from its start date to its
+     * end date. A schedule ending at midnight does not take place on the day it ends, and a schedule ending
+     * before it starts only takes place on its start date.
+     */
+    public static boolean takesPlaceOn(Schedule schedule, LocalDate date) {
+        requireNonNull(schedule);
+        requireNonNull(date);
+        return !date.isBefore(getFirstDay(schedule)) && !date.isAfter(getLastDay(schedule));
+    }
+
+    private static LocalDate getFirstDay(Schedule schedule) {
+        return schedule.getStartDateTime().toLocalDate();
+    }
+
+    private static LocalDate getLastDay(Schedule schedule) {
+        LocalDate startDate = getFirstDay(schedule);
+        LocalDate endDate = schedule.getEndDateTime().toLocalDate();
+        if (endDate.isAfter(startDate) && schedule.getEndDateTime().toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            endDate = endDate.minusDays(1);
+        }
+        return endDate.isBefore(startDate) ? startDate : endDate;
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Schedule> change) {
+        // The first and last days of the changed schedules, merged into disjoint ranges by their first days
+        TreeMap<LocalDate, LocalDate> changedDays = new TreeMap<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // The days of the schedules are unchanged
+                continue;
+            }
+            for (Schedule schedule : change.getRemoved()) {
+                intervalIndex.remove(schedule);
+                addDayRange(changedDays, schedule);
+            }
+            for (Schedule schedule : change.getAddedSubList()) {
+                intervalIndex.add(schedule);
+                addDayRange(changedDays, schedule);
+            }
+        }
+
+        if (!changedDays.isEmpty()) {
+            Predicate<LocalDate> isChangedDay = date -> {
+                Map.Entry<LocalDate, LocalDate> range = changedDays.floorEntry(date);
+                return range != null && !date.isAfter(range.getValue());
+            };
+            daysChangedListeners.forEach(daysChangedListener -> daysChangedListener.accept(isChangedDay));
+        }
+    }
+
+    /**
+     * Adds the days {@code schedule} takes place on to {@code dayRanges}, merging the ranges they overlap.
+     */
+    private static void addDayRange(TreeMap<LocalDate, LocalDate> dayRanges, Schedule schedule) {
+        LocalDate firstDay = getFirstDay(schedule);
+        LocalDate lastDay = getLastDay(schedule);
+        Map.Entry<LocalDate, LocalDate> previous = dayRanges.floorEntry(firstDay);
+        if (previous != null && !previous.getValue().isBefore(firstDay.minusDays(1))) {
+            firstDay = previous.getKey();
+            lastDay = later(lastDay, previous.getValue());
+        }
+
+        Map.Entry<LocalDate, LocalDate> next = dayRanges.ceilingEntry(firstDay);
+        while (next != null && !next.getKey().isAfter(lastDay.plusDays(1))) {
+            lastDay = later(lastDay, next.getValue());
+            dayRanges.remove(next.getKey());
+            next = dayRanges.higherEntry(next.getKey());
+        }
+        dayRanges.put(firstDay, lastDay);
+    }
+
+    private static LocalDate later(LocalDate first, LocalDate second) {
+        return second.isAfter(first) ? second : first;
+    }
+}
@@ -0,0 +1,335 @@
+package scm.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * An index of schedules by the interval between their start and end date and times.
+ * <p>
+ * Schedules are kept in an AVL tree ordered by start date and time, in which every node also records the latest start
+ * or end date and time within its subtree. Finding the schedules that start on or after a date and time takes
+ * O(log n + k) time, where k is the number of schedules found, and finding the schedules that are ongoing at a date
+ * and time skips every subtree in which no schedule ends on or after it. Schedules are also kept in a map ordered by
+ * end date and time, so finding the schedules that end on or before a date and time takes O(log n + k) time.
+ * <p>
+ * Schedules are tracked by reference, so a schedule that is added more than once is found once for every time it
+ * was added.
+ */
+public class ScheduleIntervalIndex {
+
+    private final TreeMap<LocalDateTime, List<Schedule>> schedulesByEnd = new TreeMap<>();
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code schedule} to the index.
+     */
+    public void add(Schedule schedule) {
+        requireNonNull(schedule);
+        root = insert(root, schedule);
+        schedulesByEnd.computeIfAbsent(schedule.getEndDateTime(), endDateTime -> new ArrayList<>()).add(schedule);
+        size++;
+    }
+
+    /**
+     * Removes {@code schedule}, the same instance that was added, from the index.
+     *
+     * @return true if {@code schedule} was in the index.
+     */
+    public boolean remove(Schedule schedule) {
+        requireNonNull(schedule);
+        List<Schedule> endBucket = schedulesByEnd.get(schedule.getEndDateTime());
+        if (endBucket == null || !removeInstance(endBucket, schedule)) {
+            return false;
+        }
+        if (endBucket.isEmpty()) {
+            schedulesByEnd.remove(schedule.getEndDateTime());
+        }
+
+        root = delete(root, schedule);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all schedules from the index.
+     */
+    public void clear() {
+        schedulesByEnd.clear();
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the schedules that start on or before {@code dateTime} and end on or after it.
+     */
+    public List<Schedule> findOngoingAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        List<Schedule> found = new ArrayList<>();
+        collectOngoingAt(root, dateTime, found);
+        return found;
+    }
+
+    /**
+     * Returns the schedules that start before {@code to}, and start or end on or after {@code from}, ordered by
+     * start date and time.
+     */
+    public List<Schedule> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Schedule> found = new ArrayList<>();
+        collectOverlapping(root, from, to, found);
+        return found;
+    }
+
+    /**
+     * Returns the schedules that start on or after {@code dateTime}, ordered by start date and time.
+     */
+    public List<Schedule> findStartingAfter(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        List<Schedule> found = new ArrayList<>();
+        collectStartingAfter(root, dateTime, found);
+        return found;
+    }
+
+    /**
+     * Returns the schedules that end on or before {@code dateTime}, ordered by end date and time.
+     */
+    public List<Schedule> findEndingBefore(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        List<Schedule> found = new ArrayList<>();
+        schedulesByEnd.headMap(dateTime, true).values().forEach(found::addAll);
+        return found;
+    }
+
+    private static void collectOngoingAt(Node node, LocalDateTime dateTime, List<Schedule> found) {
+        if (node == null || node.maxEndDateTime.isBefore(dateTime)) {
+            // No schedule in this subtree is still ongoing at dateTime
+            return;
+        }
+
+        collectOngoingAt(node.left, dateTime, found);
+        if (node.startDateTime.isAfter(dateTime)) {
+            // This node and its right subtree only hold schedules starting after dateTime
+            return;
+        }
+        for (Schedule schedule : node.schedules) {
+            if (!schedule.getEndDateTime().isBefore(dateTime)) {
+                found.add(schedule);
+            }
+        }
+        collectOngoingAt(node.right, dateTime, found);
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Schedule> found) {
+        if (node == null || node.maxEndDateTime.isBefore(from)) {
+            // No schedule in this subtree starts or ends on or after from
+            return;
+        }
+
+        collectOverlapping(node.left, from, to, found);
+        if (!node.startDateTime.isBefore(to)) {
+            // This node and its right subtree only hold schedules starting on or after to
+            return;
+        }
+        for (Schedule schedule : node.schedules) {
+            if (!node.startDateTime.isBefore(from) || !schedule.getEndDateTime().isBefore(from)) {
+                found.add(schedule);
+            }
+        }
+        collectOverlapping(node.right, from, to, found);
+    }
+
+    private static void collectStartingAfter(Node node, LocalDateTime dateTime, List<Schedule> found) {
+        if (node == null) {
+            return;
+        }
+
+        if (node.startDateTime.isBefore(dateTime)) {
+            collectStartingAfter(node.right, dateTime, found);
+            return;
+        }
+        collectStartingAfter(node.left, dateTime, found);
+        found.addAll(node.schedules);
+        collectAll(node.right, found);
+    }
+
+    private static void collectAll(Node node, List<Schedule> found) {
+        if (node == null) {
+            return;
+        }
+
+        collectAll(node.left, found);
+        found.addAll(node.schedules);
+        collectAll(node.right, found);
+    }
+
+    /**
+     * Removes the first element of {@code schedules} that is the same instance as {@code schedule}.
+     *
+     * @return true if such an element was found.
+     */
+    private static boolean removeInstance(List<Schedule> schedules, Schedule schedule) {
+        Iterator<Schedule> iterator = schedules.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == schedule) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //=========== AVL tree operations =========================================================================
+
+    private static Node insert(Node node, Schedule schedule) {
+        if (node == null) {
+            Node newNode = new Node(schedule.getStartDateTime());
+            newNode.schedules.add(schedule);
+            newNode.update();
+            return newNode;
+        }
+
+        int comparison = schedule.getStartDateTime().compareTo(node.startDateTime);
+        if (comparison < 0) {
+            node.left = insert(node.left, schedule);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, schedule);
+        } else {
+            node.schedules.add(schedule);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, Schedule schedule) {
+        assert node != null : "Schedule to delete is not in the tree";
+
+        int comparison = schedule.getStartDateTime().compareTo(node.startDateTime);
+        if (comparison < 0) {
+            node.left = delete(node.left, schedule);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, schedule);
+        } else {
+            removeInstance(node.schedules, schedule);
+            if (node.schedules.isEmpty()) {
+                return deleteNode(node);
+            }
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Returns the subtree rooted at {@code node} with {@code node} itself removed.
+     */
+    private static Node deleteNode(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = deleteMin(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding the schedules that start at the same date and time.
+     */
+    private static class Node {
+        private final LocalDateTime startDateTime;
+        private final List<Schedule> schedules = new ArrayList<>();
+        private LocalDateTime maxEndDateTime;
+        private int height;
+        private Node left;
+        private Node right;
+
+        Node(LocalDateTime startDateTime) {
+            this.startDateTime = startDateTime;
+        }
+
+        /**
+         * Recomputes the height and the latest start or end date and time of the subtree rooted at this node
+         * from those of its children. The start is included for schedules that end before they start.
+         */
+        void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEndDateTime = startDateTime;
+            for (Schedule schedule : schedules) {
+                maxEndDateTime = later(maxEndDateTime, schedule.getEndDateTime());
+            }
+            if (left != null) {
+                maxEndDateTime = later(maxEndDateTime, left.maxEndDateTime);
+            }
+            if (right != null) {
+                maxEndDateTime = later(maxEndDateTime, right.maxEndDateTime);
+            }
+        }
+
+        private static LocalDateTime later(LocalDateTime first, LocalDateTime second) {
+            return first == null || second.isAfter(first) ? second : first;
+        }
+    }
+}
@@ -41,6 +41,11 @@ public class TitleContainsKeywordsPredicate implements Predicate<Schedule> {
         return keywords.equals(otherTitleContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     public List<String> getKeywords() {
         return keywords;
     }
@@ -3,9 +3,12 @@ package scm.address.model.view;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
 
+import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
@@ -13,17 +16,23 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import scm.address.model.Model;
 import scm.address.model.schedule.Schedule;
+import scm.address.model.schedule.ScheduleDayIndex;
 
 /**
  * Represents a calendar view in the GUI.
  * This class is responsible for visualizing the calendar grid with schedules.
+ * <p>
+ * The grids of the months before and after the current month are rendered ahead of time, so moving to an adjacent
+ * month only swaps grids. The view follows changes to the schedules, re-rendering only the days they affect.
  */
 public class CalendarView extends GridPane {
 
+    private static final String[] DAY_NAMES = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
+
+    private final ScheduleDayIndex scheduleDayIndex;
+    private final Map<YearMonth, GridPane> monthGrids = new HashMap<>();
+    private final Map<LocalDate, VBox> dayCells = new HashMap<>();
     private YearMonth currentYearMonth;
-    private GridPane calendarGrid = new GridPane();
-    private List<Schedule> schedules;
-    private Model model;
 
     /**
      * Constructs a {@code CalendarView} with the specified year and month, and the model from which
@@ -33,36 +42,58 @@ public class CalendarView extends GridPane {
      * @param model     The model from which the schedule data is retrieved.
      */
     public CalendarView(YearMonth yearMonth, Model model) {
-        this.currentYearMonth = yearMonth;
-        this.schedules = model.getScheduleList().getScheduleList();
-        populateCalendar(this.currentYearMonth);
+        this(yearMonth, model.getScheduleList().getScheduleList());
     }
 
     /**
-     * Fills the calendar view with days, labels and schedules for the specified year and month.
+     * Constructs a {@code CalendarView} with the specified year and month, showing {@code schedules}.
+     *
+     * @param yearMonth The year and month for which the calendar view is to be generated.
+     * @param schedules The schedules to show, which the view follows as they change.
+     */
+    public CalendarView(YearMonth yearMonth, ObservableList<Schedule> schedules) {
+        this.scheduleDayIndex = new ScheduleDayIndex(schedules);
+        scheduleDayIndex.addDaysChangedListener(this::refreshDays);
+        setCurrentYearMonth(yearMonth);
+    }
+
+    /**
+     * Fills the calendar view with days, labels and schedules for the specified year and month,
+     * and renders the months before and after it ahead of time.
      *
      * @param yearMonth The year and month for which the calendar view is to be populated.
      */
     public void populateCalendar(YearMonth yearMonth) {
-        calendarGrid.getChildren().clear();
+        getChildren().setAll(getMonthGrid(yearMonth));
 
-        LocalDate calendarDate = LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), 1);
-        int numOfDaysInMonth = yearMonth.lengthOfMonth();
-        DayOfWeek firstDayOfWeek = calendarDate.getDayOfWeek();
+        // Keeps only the grids of the months that can be reached in one step
+        monthGrids.keySet().removeIf(renderedMonth -> Math.abs(getMonthsBetween(yearMonth, renderedMonth)) > 1);
+        dayCells.keySet().removeIf(date -> !monthGrids.containsKey(YearMonth.from(date)));
+        getMonthGrid(yearMonth.minusMonths(1));
+        getMonthGrid(yearMonth.plusMonths(1));
+    }
+
+    /**
+     * Returns the grid of {@code yearMonth}, rendering it if it has not been rendered yet.
+     */
+    private GridPane getMonthGrid(YearMonth yearMonth) {
+        return monthGrids.computeIfAbsent(yearMonth, this::renderMonth);
+    }
 
-        String[] dayNames = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
-        for (int i = 0; i < dayNames.length; i++) {
-            calendarGrid.add(new Label(dayNames[i]), i, 0);
+    private GridPane renderMonth(YearMonth yearMonth) {
+        GridPane calendarGrid = new GridPane();
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            calendarGrid.add(new Label(DAY_NAMES[i]), i, 0);
         }
 
+        LocalDate calendarDate = yearMonth.atDay(1);
+        DayOfWeek firstDayOfWeek = calendarDate.getDayOfWeek();
         int row = 1;
         int col = firstDayOfWeek.getValue() % 7;
-        for (int day = 1; day <= numOfDaysInMonth; day++, calendarDate = calendarDate.plusDays(1)) {
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++, calendarDate = calendarDate.plusDays(1)) {
             StackPane dayCell = new StackPane();
             dayCell.setPrefSize(200, 200);
-            Label dayLabel = new Label(String.valueOf(day));
             VBox dayCellContent = new VBox(5);
-            dayCellContent.getChildren().add(dayLabel);
             dayCell.getChildren().add(dayCellContent);
             calendarGrid.add(dayCell, col++, row);
 
@@ -71,20 +102,32 @@ public class CalendarView extends GridPane {
                 row++;
             }
 
-            List<Schedule> schedulesForDay = getSchedulesForDate(calendarDate);
+            dayCells.put(calendarDate, dayCellContent);
+            renderDay(calendarDate, dayCellContent);
+        }
+        return calendarGrid;
+    }
 
-            for (Schedule schedule : schedulesForDay) {
-                Label scheduleLabel = new Label(schedule.toStringCalendar());
-                dayCell.getChildren().add(scheduleLabel);
-            }
+    private void renderDay(LocalDate date, VBox dayCellContent) {
+        dayCellContent.getChildren().setAll(new Label(String.valueOf(date.getDayOfMonth())));
+        for (Schedule schedule : scheduleDayIndex.getSchedulesOn(date)) {
+            dayCellContent.getChildren().add(new Label(schedule.toStringCalendar()));
         }
-        this.getChildren().add(calendarGrid);
     }
 
-    private List<Schedule> getSchedulesForDate(LocalDate date) {
-        return schedules.stream()
-                .filter(schedule -> schedule.getStartDateTime().toLocalDate().equals(date))
-                .collect(Collectors.toList());
+    /**
+     * Re-renders the cells in the rendered months of the days for which {@code isChangedDay} holds.
+     */
+    private void refreshDays(Predicate<LocalDate> isChangedDay) {
+        dayCells.forEach((date, dayCellContent) -> {
+            if (isChangedDay.test(date)) {
+                renderDay(date, dayCellContent);
+            }
+        });
+    }
+
+    private static long getMonthsBetween(YearMonth from, YearMonth to) {
+        return from.until(to, ChronoUnit.MONTHS);
     }
 
     public YearMonth getCurrentYearMonth() {
@@ -96,7 +139,21 @@ public class CalendarView extends GridPane {
         populateCalendar(yearMonth);
     }
 
+    /**
+     * Moves the calendar view to the month before the current month.
+     */
+    public void showPreviousMonth() {
+        setCurrentYearMonth(currentYearMonth.minusMonths(1));
+    }
+
+    /**
+     * Moves the calendar view to the month after the current month.
+     */
+    public void showNextMonth() {
+        setCurrentYearMonth(currentYearMonth.plusMonths(1));
+    }
+
     public Node getView() {
-        return calendarGrid;
+        return getMonthGrid(currentYearMonth);
     }
 }
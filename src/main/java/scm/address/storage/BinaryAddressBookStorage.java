@@ -0,0 +1,130 @@
+package scm.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import scm.address.commons.core.LogsCenter;
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.model.AddressBook;
+import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.person.Address;
+import scm.address.model.person.Email;
+import scm.address.model.person.Name;
+import scm.address.model.person.Person;
+import scm.address.model.person.Phone;
+import scm.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * Each person is stored as its name, phone, email and address, followed by the number of tags and the tag names.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Identifies binary address book files. Spells "SCMA" in ASCII. */
+    static final int MAGIC = 0x53434D41;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            BinaryDataFile.read(filePath, MAGIC, BinaryAddressBookStorage::readPerson, person -> {
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            });
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryDataFile.write(filePath, MAGIC, addressBook.getPersonList(), BinaryAddressBookStorage::writePerson);
+    }
+
+    private static void writePerson(Person person, DataOutputStream output) throws IOException {
+        BinaryDataFile.writeString(output, person.getName().fullName);
+        BinaryDataFile.writeString(output, person.getPhone().value);
+        BinaryDataFile.writeString(output, person.getEmail().value);
+        BinaryDataFile.writeString(output, person.getAddress().value);
+        output.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            BinaryDataFile.writeString(output, tag.tagName);
+        }
+    }
+
+    private static Person readPerson(DataInputStream input) throws IOException, IllegalValueException {
+        String name = BinaryDataFile.readString(input);
+        String phone = BinaryDataFile.readString(input);
+        String email = BinaryDataFile.readString(input);
+        String address = BinaryDataFile.readString(input);
+        int tagCount = input.readInt();
+        if (tagCount < 0) {
+            throw new IOException("Corrupted tag count " + tagCount);
+        }
+        String[] tagNames = new String[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tagNames[i] = BinaryDataFile.readString(input);
+        }
+
+        // The model's constructors check the values against their constraints
+        try {
+            Set<Tag> tags = new HashSet<>();
+            for (String tagName : tagNames) {
+                tags.add(new Tag(tagName));
+            }
+            return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
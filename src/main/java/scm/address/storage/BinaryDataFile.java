@@ -0,0 +1,184 @@
+package scm.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes lists of records in a compact, versioned binary file format.
+ *
+ * A file consists of a header followed by the payload holding the records. The header holds, as big-endian
+ * integers, the magic number identifying the kind of records, the format version, the number of records, the
+ * length of the payload in bytes and the CRC-32 checksum of the payload. Strings in records are stored as their
+ * length in bytes followed by their UTF-8 encoding.
+ */
+class BinaryDataFile {
+
+    public static final int FORMAT_VERSION = 1;
+
+    static final int HEADER_SIZE = Integer.BYTES * 4 + Long.BYTES;
+
+    private BinaryDataFile() {}
+
+    /**
+     * Writes {@code records} to {@code filePath}, replacing the file atomically.
+     *
+     * @param magic identifies the kind of records in the file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static <R> void write(Path filePath, int magic, List<R> records, RecordWriter<R> recordWriter)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(records);
+        requireNonNull(recordWriter);
+
+        // The payload is encoded up front as its length and checksum are written before it
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        for (R record : records) {
+            recordWriter.write(record, payload);
+        }
+        payload.flush();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(payloadBytes.toByteArray());
+
+        FileUtil.writeToFile(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(magic);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(records.size());
+            output.writeInt(payloadBytes.size());
+            output.writeLong(checksum.getValue());
+            payloadBytes.writeTo(output);
+            output.flush();
+        });
+    }
+
+    /**
+     * Reads the records in {@code filePath} one at a time, passing each to {@code recordHandler}.
+     * The payload is checked against the checksum in the header before any record is read.
+     *
+     * @param magic identifies the kind of records expected in the file.
+     * @throws IOException if the file could not be read or is not a valid file of the expected kind.
+     * @throws IllegalValueException if a record holds invalid values or is rejected by {@code recordHandler}.
+     */
+    static <R> void read(Path filePath, int magic, RecordReader<R> recordReader, RecordHandler<R> recordHandler)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(recordReader);
+        requireNonNull(recordHandler);
+
+        byte[] payloadBytes;
+        int recordCount;
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            DataInputStream input = new DataInputStream(inputStream);
+            if (input.readInt() != magic) {
+                throw new IOException("Not a binary data file of the expected kind");
+            }
+            int version = input.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported binary data file version " + version);
+            }
+            recordCount = input.readInt();
+            int payloadLength = input.readInt();
+            long expectedChecksum = input.readLong();
+            if (recordCount < 0 || payloadLength < 0 || payloadLength > Files.size(filePath) - HEADER_SIZE) {
+                throw new IOException("Corrupted binary data file header");
+            }
+
+            payloadBytes = new byte[payloadLength];
+            input.readFully(payloadBytes);
+            CRC32 checksum = new CRC32();
+            checksum.update(payloadBytes);
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IOException("Binary data file checksum does not match its contents");
+            }
+        } catch (EOFException e) {
+            throw new IOException("Binary data file is truncated", e);
+        }
+
+        DataInputStream payload = new DataInputStream(new ByteArrayInputStream(payloadBytes));
+        try {
+            for (int i = 0; i < recordCount; i++) {
+                recordHandler.handle(recordReader.read(payload));
+            }
+        } catch (EOFException e) {
+            throw new IOException("Binary data file holds fewer records than its header states", e);
+        }
+        if (payload.available() > 0) {
+            throw new IOException("Binary data file holds more data than its header states");
+        }
+    }
+
+    /**
+     * Writes {@code value} as its length in bytes followed by its UTF-8 encoding.
+     */
+    static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString}.
+     */
+    static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > input.available()) {
+            throw new IOException("Corrupted string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a record to the payload.
+     *
+     * @param <R> the type of the record.
+     */
+    @FunctionalInterface
+    interface RecordWriter<R> {
+        void write(R record, DataOutputStream output) throws IOException;
+    }
+
+    /**
+     * Reads a record from the payload.
+     *
+     * @param <R> the type of the record.
+     */
+    @FunctionalInterface
+    interface RecordReader<R> {
+        /**
+         * Reads the next record from {@code input}.
+         *
+         * @throws IllegalValueException if the record holds values violating the model's constraints.
+         */
+        R read(DataInputStream input) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Handles a record read from the payload.
+     *
+     * @param <R> the type of the record.
+     */
+    @FunctionalInterface
+    interface RecordHandler<R> {
+        void handle(R record) throws IllegalValueException;
+    }
+}
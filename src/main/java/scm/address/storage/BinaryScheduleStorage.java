@@ -0,0 +1,124 @@
+package scm.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import scm.address.commons.core.LogsCenter;
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.model.ReadOnlyScheduleList;
+import scm.address.model.ScheduleList;
+import scm.address.model.schedule.Description;
+import scm.address.model.schedule.Schedule;
+import scm.address.model.schedule.Title;
+
+/**
+ * A class to access ScheduleList data stored as a compact binary file on the hard disk.
+ * Each schedule is stored as its title and description, followed by its start and end datetimes as the number of
+ * minutes since the epoch, which is the precision schedules are kept at.
+ */
+public class BinaryScheduleStorage implements ScheduleStorage {
+
+    /** Identifies binary schedule list files. Spells "SCMS" in ASCII. */
+    static final int MAGIC = 0x53434D53;
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryScheduleStorage.class);
+
+    private Path filePath;
+
+    public BinaryScheduleStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getScheduleStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataLoadingException {
+        return readScheduleList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        ScheduleList scheduleList = new ScheduleList();
+        try {
+            BinaryDataFile.read(filePath, MAGIC, BinaryScheduleStorage::readSchedule, scheduleList::addSchedule);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(scheduleList);
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        saveScheduleList(scheduleList, filePath);
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireNonNull(scheduleList);
+        requireNonNull(filePath);
+
+        BinaryDataFile.write(filePath, MAGIC, scheduleList.getScheduleList(), BinaryScheduleStorage::writeSchedule);
+    }
+
+    private static void writeSchedule(Schedule schedule, DataOutputStream output) throws IOException {
+        BinaryDataFile.writeString(output, schedule.getTitle().toString());
+        BinaryDataFile.writeString(output, schedule.getDescription().toString());
+        output.writeLong(toEpochMinute(schedule.getStartDateTime()));
+        output.writeLong(toEpochMinute(schedule.getEndDateTime()));
+    }
+
+    private static Schedule readSchedule(DataInputStream input) throws IOException, IllegalValueException {
+        String title = BinaryDataFile.readString(input);
+        String description = BinaryDataFile.readString(input);
+        long startEpochMinute = input.readLong();
+        long endEpochMinute = input.readLong();
+
+        if (!Title.isValidTitle(title)) {
+            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+        }
+        if (!Description.isValidDescription(description)) {
+            throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            return new Schedule(new Title(title), new Description(description), fromEpochMinute(startEpochMinute),
+                    fromEpochMinute(endEpochMinute));
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalValueException(Schedule.DATE_TIME_CONSTRAINTS);
+        }
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, SECONDS_PER_MINUTE), 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,158 @@
+package scm.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import scm.address.commons.core.DataFileFormat;
+import scm.address.commons.core.LogsCenter;
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.model.AddressBook;
+import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.ReadOnlyScheduleList;
+import scm.address.model.ScheduleList;
+import scm.address.model.person.Person;
+import scm.address.model.person.exceptions.DuplicatePersonException;
+import scm.address.model.schedule.Schedule;
+
+/**
+ * Creates the storages for the data files in a chosen {@link DataFileFormat}, and converts data files between
+ * formats so that switching the format keeps the existing data.
+ */
+public class DataFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileConverter.class);
+
+    private DataFileConverter() {}
+
+    /**
+     * Returns a storage for the address book stored in {@code format}, where {@code jsonFilePath} is the path of
+     * the JSON file. Files in other formats are kept next to the JSON file, with its extension replaced.
+     *
+     * @param isPrettyPrinted whether JSON files are saved with indentation.
+     */
+    public static AddressBookStorage createAddressBookStorage(Path jsonFilePath, DataFileFormat format,
+            boolean isPrettyPrinted) {
+        requireNonNull(jsonFilePath);
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(format.toFilePath(jsonFilePath));
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(jsonFilePath, isPrettyPrinted);
+        }
+    }
+
+    /**
+     * Returns a storage for the schedule list stored in {@code format}, where {@code jsonFilePath} is the path of
+     * the JSON file. Files in other formats are kept next to the JSON file, with its extension replaced.
+     *
+     * @param isPrettyPrinted whether JSON files are saved with indentation.
+     */
+    public static ScheduleStorage createScheduleStorage(Path jsonFilePath, DataFileFormat format,
+            boolean isPrettyPrinted) {
+        requireNonNull(jsonFilePath);
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryScheduleStorage(format.toFilePath(jsonFilePath));
+        case JSON:
+        default:
+            return new JsonScheduleStorage(jsonFilePath, isPrettyPrinted);
+        }
+    }
+
+    /**
+     * Copies the address book in {@code source} to {@code target}, if the target file is missing or was
+     * modified before the source file.
+     * Changes recorded in the journal of the source file are included in the copy.
+     *
+     * @return true if the address book was copied.
+     * @throws DataLoadingException if reading the source file failed.
+     * @throws IOException if writing the target file failed.
+     */
+    public static boolean convertAddressBook(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        Path targetFilePath = target.getAddressBookFilePath();
+        if (!isModifiedLater(source.getAddressBookFilePath(), targetFilePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        logger.info("Converting " + source.getAddressBookFilePath() + " to " + targetFilePath);
+        Path sourceFilePath = source.getAddressBookFilePath();
+        List<Person> persons = new ArrayList<>(addressBook.get().getPersonList());
+        new ListChangeJournal<>(ListChangeJournal.getJournalFilePath(sourceFilePath), sourceFilePath,
+                JsonAdaptedPersonListChange::new, JsonAdaptedPersonListChange.class).replayOnto(persons);
+        AddressBook converted = new AddressBook();
+        try {
+            converted.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(e);
+        }
+        target.saveAddressBook(converted);
+        return true;
+    }
+
+    /**
+     * Copies the schedule list in {@code source} to {@code target}, if the target file is missing or was
+     * modified before the source file.
+     * Changes recorded in the journal of the source file are included in the copy.
+     *
+     * @return true if the schedule list was copied.
+     * @throws DataLoadingException if reading the source file failed.
+     * @throws IOException if writing the target file failed.
+     */
+    public static boolean convertScheduleList(ScheduleStorage source, ScheduleStorage target)
+            throws DataLoadingException, IOException {
+        Path targetFilePath = target.getScheduleStorageFilePath();
+        if (!isModifiedLater(source.getScheduleStorageFilePath(), targetFilePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyScheduleList> scheduleList = source.readScheduleList();
+        if (!scheduleList.isPresent()) {
+            return false;
+        }
+        logger.info("Converting " + source.getScheduleStorageFilePath() + " to " + targetFilePath);
+        Path sourceFilePath = source.getScheduleStorageFilePath();
+        List<Schedule> schedules = new ArrayList<>(scheduleList.get().getScheduleList());
+        new ListChangeJournal<>(ListChangeJournal.getJournalFilePath(sourceFilePath), sourceFilePath,
+                JsonAdaptedScheduleListChange::new, JsonAdaptedScheduleListChange.class).replayOnto(schedules);
+        ScheduleList converted = new ScheduleList();
+        converted.setSchedules(schedules);
+        target.saveScheduleList(converted);
+        return true;
+    }
+
+    /**
+     * Returns true if the data file at {@code source} or its journal was modified after the data file at
+     * {@code target}, or if there is no file at {@code target}.
+     */
+    private static boolean isModifiedLater(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) {
+            return false;
+        }
+        if (!Files.exists(target)) {
+            return true;
+        }
+
+        FileTime sourceLastModified = Files.getLastModifiedTime(source);
+        Path sourceJournal = ListChangeJournal.getJournalFilePath(source);
+        if (Files.exists(sourceJournal) && Files.getLastModifiedTime(sourceJournal).compareTo(sourceLastModified) > 0) {
+            sourceLastModified = Files.getLastModifiedTime(sourceJournal);
+        }
+        return sourceLastModified.compareTo(Files.getLastModifiedTime(target)) > 0;
+    }
+}
@@ -0,0 +1,288 @@
+package scm.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import scm.address.commons.core.LogsCenter;
+import scm.address.commons.util.StringUtil;
+
+/**
+ * Saves one kind of data, such as the address book, to its data file on behalf of {@link StorageManager}.
+ *
+ * Saving is skipped when the same data has not been modified since it was last saved to the same file.
+ * If a journal is kept, the changes made since the last save are appended to the journal instead of rewriting the
+ * data file, until the journal grows past the compaction threshold. If a background writer is given, saves to the
+ * default data file are written on it, and a save requested while another is pending replaces the pending one.
+ * A save written in the background only copies the data when the data file has to be rewritten, so saving a small
+ * change to the journal takes time proportional to the change rather than to the data.
+ *
+ * @param <D> the type of the data saved.
+ * @param <T> the type of the elements of the list held by the data.
+ */
+class DataFileSaver<D, T> {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileSaver.class);
+
+    private final String dataName;
+    private final Path filePath;
+    private final DataWriter<D> dataWriter;
+    private final Function<D, ObservableList<T>> listGetter;
+    private final ToLongFunction<D> versionGetter;
+    private final Function<D, D> snapshotFactory;
+    private final Executor backgroundWriter;
+    private final ListChangeJournal<T> journal;
+    private final long compactionThreshold;
+    private final Consumer<IOException> failureHandler;
+
+    private final AtomicReference<SaveRecord> lastSave = new AtomicReference<>();
+    private PendingSave<D, T> pendingSave;
+
+    /**
+     * Creates a {@code DataFileSaver} for the data file at {@code filePath}.
+     *
+     * @param dataName name of the data used in log messages.
+     * @param dataWriter writes the data in full to a file.
+     * @param listGetter returns the list held by the data.
+     * @param versionGetter returns the modification version of the data.
+     * @param snapshotFactory returns an immutable copy of the data that can be written on another thread.
+     * @param backgroundWriter writes the data in the background, or null to write synchronously.
+     * @param journal records changes made to the data, or null to always write the data in full.
+     * @param compactionThreshold size in bytes beyond which the journal is compacted into the data file.
+     * @param failureHandler notified when writing in the background fails.
+     */
+    DataFileSaver(String dataName, Path filePath, DataWriter<D> dataWriter,
+            Function<D, ObservableList<T>> listGetter, ToLongFunction<D> versionGetter,
+            Function<D, D> snapshotFactory, Executor backgroundWriter, ListChangeJournal<T> journal,
+            long compactionThreshold, Consumer<IOException> failureHandler) {
+        this.dataName = dataName;
+        this.filePath = filePath;
+        this.dataWriter = dataWriter;
+        this.listGetter = listGetter;
+        this.versionGetter = versionGetter;
+        this.snapshotFactory = snapshotFactory;
+        this.backgroundWriter = backgroundWriter;
+        this.journal = journal;
+        this.compactionThreshold = compactionThreshold;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Returns the elements of {@code snapshot} with the changes recorded in the journal, if any, applied.
+     */
+    List<T> replayJournal(D snapshot) {
+        List<T> elements = new ArrayList<>(listGetter.apply(snapshot));
+        if (journal != null) {
+            journal.replayOnto(elements);
+        }
+        return elements;
+    }
+
+    /**
+     * Starts journaling the changes made to {@code data}, which should hold the result of {@link #replayJournal}.
+     */
+    void attachJournal(D data) {
+        if (journal != null) {
+            journal.attach(listGetter.apply(data));
+        }
+    }
+
+    /**
+     * Saves {@code data} to the data file, in the background if a background writer is used.
+     *
+     * @throws IOException if writing synchronously failed.
+     */
+    void save(D data) throws IOException {
+        requireNonNull(data);
+        SaveRecord record = new SaveRecord(data, versionGetter.applyAsLong(data), filePath);
+        if (record.isSameAs(lastSave.get())) {
+            logger.fine("No changes to " + dataName + " since last save, skipping write to " + filePath);
+            return;
+        }
+
+        boolean isJournaled = journal != null && journal.isAttachedTo(listGetter.apply(data));
+        List<ListChange<T>> changes = isJournaled ? journal.takeUnsavedChanges() : null;
+
+        if (backgroundWriter == null) {
+            write(new PendingSave<>(data, changes, isJournaled));
+            lastSave.set(record);
+            return;
+        }
+
+        lastSave.set(record);
+        synchronized (this) {
+            // A pending rewrite of the data file cannot be turned into appending to the journal
+            boolean isRewriteNeeded = changes == null || !journal.canAppend(compactionThreshold)
+                    || (pendingSave != null && pendingSave.data != null);
+            D snapshot = isRewriteNeeded ? snapshotFactory.apply(data) : null;
+            boolean isWriteQueued = pendingSave != null;
+            pendingSave = PendingSave.merge(pendingSave, new PendingSave<>(snapshot, changes, isJournaled));
+            if (!isWriteQueued) {
+                backgroundWriter.execute(this::writePendingSave);
+            }
+        }
+    }
+
+    /**
+     * Saves {@code data} in full to {@code filePath} synchronously.
+     *
+     * @throws IOException if writing failed.
+     */
+    void saveTo(D data, Path filePath) throws IOException {
+        SaveRecord record = new SaveRecord(data, versionGetter.applyAsLong(data), filePath);
+        if (record.isSameAs(lastSave.get())) {
+            logger.fine("No changes to " + dataName + " since last save, skipping write to " + filePath);
+            return;
+        }
+
+        logger.fine("Attempting to write " + dataName + " to " + filePath);
+        if (journal != null && filePath.equals(this.filePath)) {
+            // The journal no longer applies to the data file
+            journal.invalidate();
+        }
+        dataWriter.write(data, filePath);
+        lastSave.set(record);
+    }
+
+    /**
+     * Writes the pending save, if any. Runs on the background writer.
+     */
+    private void writePendingSave() {
+        PendingSave<D, T> toWrite;
+        synchronized (this) {
+            toWrite = pendingSave;
+            pendingSave = null;
+        }
+        if (toWrite == null) {
+            return;
+        }
+
+        try {
+            write(toWrite);
+        } catch (IOException e) {
+            logger.warning("Failed to save " + dataName + " to " + filePath + ": " + StringUtil.getDetails(e));
+            // Forces the next save to write again even if the data has not changed
+            lastSave.set(null);
+            failureHandler.accept(e);
+        }
+    }
+
+    private void write(PendingSave<D, T> toWrite) throws IOException {
+        if (toWrite.data == null) {
+            appendWithoutSnapshot(toWrite.changes);
+            return;
+        }
+
+        if (toWrite.changes != null && journal.canAppend(compactionThreshold)) {
+            logger.fine("Appending " + toWrite.changes.size() + " changes to journal " + journal.getFilePath());
+            journal.append(toWrite.changes);
+            return;
+        }
+
+        logger.fine("Attempting to write " + dataName + " to " + filePath);
+        if (journal != null) {
+            // The journal no longer applies once the data file is rewritten
+            journal.invalidate();
+        }
+        dataWriter.write(toWrite.data, filePath);
+        if (toWrite.isJournaled) {
+            journal.reset();
+        }
+    }
+
+    /**
+     * Appends {@code changes}, which were saved without a copy of the data as they could be appended then, to the
+     * journal. They are appended even if the journal has grown past the compaction threshold since, and the next
+     * save compacts it.
+     */
+    private void appendWithoutSnapshot(List<ListChange<T>> changes) throws IOException {
+        if (!journal.canAppend(Long.MAX_VALUE)) {
+            // An earlier write failed or rewrote the data file, so the changes no longer follow on from the journal
+            logger.warning("Journal " + journal.getFilePath() + " no longer matches " + filePath
+                    + ", leaving the changes to the next save of " + dataName);
+            // Forces the next save to write the data file in full even if the data has not changed
+            lastSave.set(null);
+            return;
+        }
+
+        logger.fine("Appending " + changes.size() + " changes to journal " + journal.getFilePath());
+        journal.append(changes);
+    }
+
+    /**
+     * Writes data to a file.
+     *
+     * @param <D> the type of the data written.
+     */
+    @FunctionalInterface
+    interface DataWriter<D> {
+        void write(D data, Path filePath) throws IOException;
+    }
+
+    /**
+     * Records which data instance was last saved, at which version and to which file.
+     */
+    private static class SaveRecord {
+        private final Object data;
+        private final long version;
+        private final Path filePath;
+
+        SaveRecord(Object data, long version, Path filePath) {
+            this.data = data;
+            this.version = version;
+            this.filePath = filePath;
+        }
+
+        /**
+         * Returns true if {@code other} records the same data instance, version and file as this record.
+         */
+        boolean isSameAs(SaveRecord other) {
+            return other != null && data == other.data && version == other.version
+                    && filePath.equals(other.filePath);
+        }
+    }
+
+    /**
+     * A save waiting to be written: the data to write in full, and the changes made since the previous save
+     * that can be appended to the journal instead, if all of them were recorded.
+     * The data is null if the changes are to be appended to the journal without rewriting the data file.
+     */
+    private static class PendingSave<D, T> {
+        private final D data;
+        private final List<ListChange<T>> changes;
+        private final boolean isJournaled;
+
+        PendingSave(D data, List<ListChange<T>> changes, boolean isJournaled) {
+            this.data = data;
+            this.changes = changes;
+            this.isJournaled = isJournaled;
+        }
+
+        /**
+         * Returns a save that has the effect of writing {@code earlier}, if any, and then {@code later}.
+         */
+        static <D, T> PendingSave<D, T> merge(PendingSave<D, T> earlier, PendingSave<D, T> later) {
+            if (earlier == null) {
+                return later;
+            }
+            if (earlier.changes == null || later.changes == null) {
+                assert later.data != null : "Data file rewrite replaced by appending to the journal";
+                return new PendingSave<>(later.data, null, later.isJournaled);
+            }
+
+            List<ListChange<T>> mergedChanges = new ArrayList<>(earlier.changes);
+            mergedChanges.addAll(later.changes);
+            return new PendingSave<>(later.data, mergedChanges, later.isJournaled);
+        }
+    }
+}
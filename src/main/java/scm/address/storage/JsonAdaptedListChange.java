@@ -0,0 +1,56 @@
+package scm.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import scm.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of {@link ListChange}, used as a record of a {@link ListChangeJournal}.
+ *
+ * @param <T> the model type of the elements of the list.
+ * @param <A> the Jackson-friendly type of the elements of the list.
+ */
+abstract class JsonAdaptedListChange<T, A> {
+
+    public static final String INVALID_RANGE_MESSAGE = "Journal record has an invalid range!";
+
+    private final int from;
+    private final int removed;
+    private final List<A> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    JsonAdaptedListChange(int from, int removed, List<A> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change into a {@code ListChange} of model objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public ListChange<T> toModelType() throws IllegalValueException {
+        if (from < 0 || removed < 0) {
+            throw new IllegalValueException(INVALID_RANGE_MESSAGE);
+        }
+
+        final List<T> modelAdded = new ArrayList<>();
+        for (A element : added) {
+            modelAdded.add(toModelElement(element));
+        }
+        return new ListChange<>(from, removed, modelAdded);
+    }
+
+    /**
+     * Converts a Jackson-friendly list element into its model type.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the element.
+     */
+    protected abstract T toModelElement(A element) throws IllegalValueException;
+}
@@ -0,0 +1,39 @@
+package scm.address.storage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link ListChange} made to the list of persons.
+ */
+class JsonAdaptedPersonListChange extends JsonAdaptedListChange<Person, JsonAdaptedPerson> {
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonListChange(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        super(from, removed, added);
+    }
+
+    /**
+     * Converts a given {@code ListChange} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonListChange(ListChange<Person> source) {
+        this(source.getFrom(), source.getRemovedSize(), source.getAdded().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    protected Person toModelElement(JsonAdaptedPerson element) throws IllegalValueException {
+        return element.toModelType();
+    }
+}
@@ -0,0 +1,45 @@
+package scm.address.storage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.model.schedule.Schedule;
+
+/**
+ * Jackson-friendly version of a {@link ListChange} made to the list of schedules.
+ */
+class JsonAdaptedScheduleListChange extends JsonAdaptedListChange<Schedule, JsonAdaptedSchedule> {
+
+    /**
+     * Constructs a {@code JsonAdaptedScheduleListChange} with the given change details.
+     *
+     * @param from Index of the first changed schedule.
+     * @param removed Number of schedules removed.
+     * @param added Schedules added in place of the removed ones.
+     */
+    @JsonCreator
+    public JsonAdaptedScheduleListChange(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<JsonAdaptedSchedule> added) {
+        super(from, removed, added);
+    }
+
+    /**
+     * Converts {@code source} into this class for Jackson use.
+     *
+     * @param source ListChange to be converted.
+     */
+    public JsonAdaptedScheduleListChange(ListChange<Schedule> source) {
+        this(source.getFrom(), source.getRemovedSize(), source.getAdded().stream()
+                .map(JsonAdaptedSchedule::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    protected Schedule toModelElement(JsonAdaptedSchedule element) throws IllegalValueException {
+        return element.toModelType();
+    }
+}
@@ -10,9 +10,10 @@ import java.util.logging.Logger;
 import scm.address.commons.core.LogsCenter;
 import scm.address.commons.exceptions.DataLoadingException;
 import scm.address.commons.exceptions.IllegalValueException;
-import scm.address.commons.util.FileUtil;
 import scm.address.commons.util.JsonUtil;
+import scm.address.model.AddressBook;
 import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -20,11 +21,38 @@ import scm.address.model.ReadOnlyAddressBook;
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final String PERSONS_FIELD_NAME = "persons";
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isGzipCompressed;
 
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which is saved with indentation.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented, rather than written compactly to save space.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented, rather than written compactly to save space.
+     * @param isGzipCompressed whether files are gzip-compressed, and decompressed as they are read.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, boolean isGzipCompressed) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isGzipCompressed = isGzipCompressed;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +73,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Persons are validated and added one at a time as they are parsed, without holding the whole file
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, isGzipCompressed, PERSONS_FIELD_NAME,
+                    JsonAdaptedPerson.class, jsonAdaptedPerson -> addPerson(addressBook, jsonAdaptedPerson));
+            return isFound ? Optional.of(addressBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    private static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,7 +108,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        savePersons(addressBook.getPersonList(), filePath);
+    }
+
+    /**
+     * Saves {@code persons} to the file at {@code filePath} as an address book, streaming them to the file
+     * without copying them into an {@code AddressBook} first.
+     * {@code persons} must not contain duplicate persons.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void savePersons(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        JsonUtil.writeJsonArrayFile(filePath, PERSONS_FIELD_NAME, persons, JsonAdaptedPerson::new, isPrettyPrinted,
+                isGzipCompressed);
     }
 }
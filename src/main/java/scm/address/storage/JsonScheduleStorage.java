@@ -10,20 +10,35 @@ import java.util.logging.Logger;
 import scm.address.commons.core.LogsCenter;
 import scm.address.commons.exceptions.DataLoadingException;
 import scm.address.commons.exceptions.IllegalValueException;
-import scm.address.commons.util.FileUtil;
 import scm.address.commons.util.JsonUtil;
 import scm.address.model.ReadOnlyScheduleList;
+import scm.address.model.ScheduleList;
 
 /**
  * A class to access ScheduleStorage data stored as a JSON file on the hard disk.
  */
 public class JsonScheduleStorage implements ScheduleStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonScheduleStorage.class);
+    private static final String SCHEDULES_FIELD_NAME = "schedules";
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
+    /**
+     * Creates a {@code JsonScheduleStorage} for the file at {@code filePath}, which is saved with indentation.
+     */
     public JsonScheduleStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonScheduleStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented, rather than written compactly to save space.
+     */
+    public JsonScheduleStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getScheduleStorageFilePath() {
@@ -39,17 +54,14 @@ public class JsonScheduleStorage implements ScheduleStorage {
     public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableScheduleList> jsonScheduleList = JsonUtil
-                .readJsonFile(this.filePath, JsonSerializableScheduleList.class);
-
-        if (!jsonScheduleList.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Schedules are validated and added one at a time as they are parsed, without holding the whole file
+        ScheduleList scheduleList = new ScheduleList();
         try {
-            return Optional.of(jsonScheduleList.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, SCHEDULES_FIELD_NAME, JsonAdaptedSchedule.class,
+                    jsonAdaptedSchedule -> scheduleList.addSchedule(jsonAdaptedSchedule.toModelType()));
+            return isFound ? Optional.of(scheduleList) : Optional.empty();
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + this.filePath + ": " + ive.getMessage());
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
@@ -64,7 +76,7 @@ public class JsonScheduleStorage implements ScheduleStorage {
         requireNonNull(scheduleList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableScheduleList(scheduleList), filePath);
+        JsonUtil.writeJsonArrayFile(filePath, SCHEDULES_FIELD_NAME, scheduleList.getScheduleList(),
+                JsonAdaptedSchedule::new, isPrettyPrinted);
     }
 }
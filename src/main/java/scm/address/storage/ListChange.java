@@ -0,0 +1,90 @@
+package scm.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import scm.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a single change made to a list: the {@code removedSize} elements starting at index {@code from}
+ * were replaced by the {@code added} elements.
+ * Guarantees: immutable.
+ *
+ * @param <T> the type of the elements of the list.
+ */
+public class ListChange<T> {
+
+    private final int from;
+    private final int removedSize;
+    private final List<T> added;
+
+    /**
+     * Constructs a {@code ListChange} that replaces {@code removedSize} elements at {@code from} with {@code added}.
+     */
+    public ListChange(int from, int removedSize, List<? extends T> added) {
+        requireNonNull(added);
+        this.from = from;
+        this.removedSize = removedSize;
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedSize() {
+        return removedSize;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Applies this change to {@code list}.
+     *
+     * @throws IndexOutOfBoundsException if the removed range does not lie within {@code list}.
+     */
+    public void applyTo(List<T> list) {
+        if (from < 0 || removedSize < 0 || from + removedSize > list.size()) {
+            throw new IndexOutOfBoundsException("Change " + this + " does not fit a list of size " + list.size());
+        }
+        list.subList(from, from + removedSize).clear();
+        list.addAll(from, added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListChange)) {
+            return false;
+        }
+
+        ListChange<?> otherChange = (ListChange<?>) other;
+        return from == otherChange.from
+                && removedSize == otherChange.removedSize
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removedSize, added);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("removedSize", removedSize)
+                .add("added", added)
+                .toString();
+    }
+}
@@ -0,0 +1,250 @@
+package scm.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import scm.address.commons.core.LogsCenter;
+import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.commons.util.FileUtil;
+import scm.address.commons.util.JsonUtil;
+
+/**
+ * An append-only journal of the changes made to a list since the list was last saved in full to a snapshot file.
+ * Replaying the journal on top of the snapshot restores the list, so small changes can be saved by appending a
+ * record instead of rewriting the whole snapshot.
+ *
+ * The journal file holds one JSON record per line. The first line identifies the snapshot file the journal is based
+ * on, so that a journal left behind by an interrupted compaction is not replayed on top of a newer snapshot.
+ *
+ * @param <T> the type of the elements of the list.
+ */
+public class ListChangeJournal<T> {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(ListChangeJournal.class);
+
+    private final Path filePath;
+    private final Path snapshotFilePath;
+    private final Function<ListChange<T>, ? extends JsonAdaptedListChange<T, ?>> changeAdapter;
+    private final Class<? extends JsonAdaptedListChange<T, ?>> adaptedChangeClass;
+
+    /** Changes made to the attached list that have not been handed out for saving yet. */
+    private final List<ListChange<T>> unsavedChanges = new ArrayList<>();
+    private ObservableList<T> attachedList;
+
+    private volatile boolean isBasedOnSnapshot;
+    private volatile long sizeInBytes;
+
+    /**
+     * Creates a journal stored at {@code filePath} for the snapshot stored at {@code snapshotFilePath}.
+     *
+     * @param changeAdapter converts a change into its Jackson-friendly version.
+     * @param adaptedChangeClass the class of the Jackson-friendly version of a change.
+     */
+    public ListChangeJournal(Path filePath, Path snapshotFilePath,
+            Function<ListChange<T>, ? extends JsonAdaptedListChange<T, ?>> changeAdapter,
+            Class<? extends JsonAdaptedListChange<T, ?>> adaptedChangeClass) {
+        requireNonNull(filePath);
+        requireNonNull(snapshotFilePath);
+        this.filePath = filePath;
+        this.snapshotFilePath = snapshotFilePath;
+        this.changeAdapter = changeAdapter;
+        this.adaptedChangeClass = adaptedChangeClass;
+    }
+
+    /**
+     * Returns the path of the journal file kept next to {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Applies the changes recorded in the journal to {@code list}, which should hold the contents of the snapshot.
+     * Replaying stops at the first record that cannot be read or applied, such as a record cut short by a crash.
+     * Afterwards, new changes can be appended to the journal only if it matched the snapshot.
+     */
+    public void replayOnto(List<T> list) {
+        requireNonNull(list);
+        isBasedOnSnapshot = false;
+        if (!FileUtil.isFileExists(filePath)) {
+            return;
+        }
+
+        int replayedCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !JsonUtil.fromJsonString(headerLine, Header.class).equals(readHeader())) {
+                logger.info("Journal " + filePath + " does not match " + snapshotFilePath + ", ignoring it.");
+                return;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonUtil.fromJsonString(line, adaptedChangeClass).toModelType().applyTo(list);
+                replayedCount++;
+            }
+            isBasedOnSnapshot = true;
+            sizeInBytes = Files.size(filePath);
+        } catch (IOException | IllegalValueException | IndexOutOfBoundsException e) {
+            logger.warning("Stopped replaying journal " + filePath + " after " + replayedCount
+                    + " records: " + e.getMessage());
+            return;
+        }
+        logger.info("Replayed " + replayedCount + " records from journal " + filePath);
+    }
+
+    /**
+     * Starts recording the changes made to {@code list}.
+     * {@code list} should hold the contents of the snapshot with the journal replayed onto it.
+     */
+    public void attach(ObservableList<T> list) {
+        requireNonNull(list);
+        assert attachedList == null : "Journal is already attached to a list";
+        attachedList = list;
+        list.addListener(this::recordChange);
+    }
+
+    /**
+     * Returns true if the journal is recording the changes made to {@code list}.
+     */
+    public boolean isAttachedTo(ObservableList<T> list) {
+        return attachedList != null && attachedList == list;
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                unsavedChanges.add(new ListChange<>(from, to - from, change.getList().subList(from, to)));
+            } else if (!change.wasUpdated()) {
+                unsavedChanges.add(new ListChange<>(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+            }
+        }
+    }
+
+    /**
+     * Returns the changes made to the attached list since the last call, in the order they were made.
+     */
+    public List<ListChange<T>> takeUnsavedChanges() {
+        List<ListChange<T>> changes = new ArrayList<>(unsavedChanges);
+        unsavedChanges.clear();
+        return changes;
+    }
+
+    /**
+     * Returns true if changes can be appended to the journal, that is if it matches the snapshot
+     * and is still smaller than {@code compactionThreshold} bytes.
+     */
+    public boolean canAppend(long compactionThreshold) {
+        return isBasedOnSnapshot && sizeInBytes < compactionThreshold;
+    }
+
+    /**
+     * Appends {@code changes} to the journal file.
+     * The journal must be based on the current snapshot.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void append(List<ListChange<T>> changes) throws IOException {
+        assert isBasedOnSnapshot : "Appending to a journal that does not match the snapshot";
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (ListChange<T> change : changes) {
+            records.append(JsonUtil.toCompactJsonString(changeAdapter.apply(change))).append(System.lineSeparator());
+        }
+        byte[] bytes = records.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            FileUtil.appendToFile(filePath, outputStream -> outputStream.write(bytes));
+        } catch (IOException e) {
+            invalidate();
+            throw e;
+        }
+        sizeInBytes = Files.size(filePath);
+    }
+
+    /**
+     * Empties the journal after a new snapshot has been written, basing the journal on that snapshot.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void reset() throws IOException {
+        invalidate();
+        FileUtil.writeToFile(filePath, JsonUtil.toCompactJsonString(readHeader()) + System.lineSeparator());
+        sizeInBytes = Files.size(filePath);
+        isBasedOnSnapshot = true;
+    }
+
+    /**
+     * Marks the journal as no longer matching the snapshot, so nothing more is appended to it
+     * until the next {@link #reset()}.
+     */
+    public void invalidate() {
+        isBasedOnSnapshot = false;
+    }
+
+    private Header readHeader() throws IOException {
+        return new Header(Files.size(snapshotFilePath), Files.getLastModifiedTime(snapshotFilePath).toMillis());
+    }
+
+    /**
+     * Identifies the version of the snapshot file a journal is based on.
+     */
+    private static class Header {
+        private final long snapshotSize;
+        private final long snapshotLastModified;
+
+        @JsonCreator
+        Header(@JsonProperty("snapshotSize") long snapshotSize,
+                @JsonProperty("snapshotLastModified") long snapshotLastModified) {
+            this.snapshotSize = snapshotSize;
+            this.snapshotLastModified = snapshotLastModified;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Header)) {
+                return false;
+            }
+
+            Header otherHeader = (Header) other;
+            return snapshotSize == otherHeader.snapshotSize
+                    && snapshotLastModified == otherHeader.snapshotLastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(snapshotSize, snapshotLastModified);
+        }
+    }
+}
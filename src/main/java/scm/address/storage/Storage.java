@@ -3,6 +3,7 @@ package scm.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import scm.address.commons.exceptions.DataLoadingException;
 import scm.address.model.ReadOnlyAddressBook;
@@ -38,4 +39,36 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, ScheduleS
 
     @Override
     void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException;
+
+    /**
+     * Returns the address book read from storage with the changes recorded in its journal applied.
+     *
+     * @param addressBook the address book read from the default data file.
+     * @throws DataLoadingException if the journal could not be applied.
+     */
+    ReadOnlyAddressBook replayAddressBookJournal(ReadOnlyAddressBook addressBook) throws DataLoadingException;
+
+    /**
+     * Returns the schedule list read from storage with the changes recorded in its journal applied.
+     *
+     * @param scheduleList the schedule list read from the default schedule list file.
+     */
+    ReadOnlyScheduleList replayScheduleListJournal(ReadOnlyScheduleList scheduleList);
+
+    /**
+     * Starts journaling the changes made to {@code addressBook} and {@code scheduleList}, so that later saves of
+     * them can append the changes instead of rewriting the data files.
+     */
+    void attachJournals(ReadOnlyAddressBook addressBook, ReadOnlyScheduleList scheduleList);
+
+    /**
+     * Sets the handler to be notified when a background save of the data files fails.
+     * Synchronous saves report failures by throwing instead.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Blocks until all pending background saves have been written.
+     */
+    void flush();
 }
@@ -1,35 +1,114 @@
 package scm.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import scm.address.commons.core.Config;
 import scm.address.commons.core.LogsCenter;
 import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.util.StringUtil;
+import scm.address.model.AddressBook;
 import scm.address.model.ReadOnlyAddressBook;
 import scm.address.model.ReadOnlyScheduleList;
 import scm.address.model.ReadOnlyUserPrefs;
+import scm.address.model.ScheduleList;
 import scm.address.model.UserPrefs;
+import scm.address.model.person.Person;
+import scm.address.model.person.exceptions.DuplicatePersonException;
+import scm.address.model.schedule.Schedule;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Saving to the same file is skipped when the data has not been modified since the last successful save,
+ * as determined by the data's modification version. The address book and schedule list are tracked separately.
+ *
+ * In write-behind mode, saves to the default data files take a snapshot of the data on the calling thread and
+ * hand it to a single background writer. Saves requested while an earlier one is still pending replace the pending
+ * snapshot, so a burst of edits results in a single write. Failures are reported to the save failure handler.
+ * Saves that only append to the journal hand over the changes without taking a snapshot.
+ *
+ * In journal mode, the changes made to the data since it was last saved are appended to a journal next to each
+ * default data file, and the data file is only rewritten when the journal grows past the compaction threshold.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final String WRITER_THREAD_NAME = "storage-writer";
+
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private ScheduleStorage scheduleStorage;
 
+    private final ExecutorService writer;
+    private final DataFileSaver<ReadOnlyAddressBook, Person> addressBookSaver;
+    private final DataFileSaver<ReadOnlyScheduleList, Schedule> scheduleListSaver;
+    private volatile Consumer<IOException> saveFailureHandler = e -> {};
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Data is saved synchronously and in full.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
         ScheduleStorage scheduleStorage) {
+        this(addressBookStorage, userPrefsStorage, scheduleStorage, getSynchronousConfig());
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given storages, which saves the address book and schedule list
+     * to their default files in write-behind and journal modes as enabled in {@code config}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+        ScheduleStorage scheduleStorage, Config config) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.scheduleStorage = scheduleStorage;
+        this.writer = config.isWriteBehindSaveEnabled()
+                ? Executors.newSingleThreadExecutor(StorageManager::createWriterThread)
+                : null;
+
+        Path addressBookFilePath = addressBookStorage.getAddressBookFilePath();
+        ListChangeJournal<Person> addressBookJournal = config.isJournalEnabled()
+                ? new ListChangeJournal<>(ListChangeJournal.getJournalFilePath(addressBookFilePath),
+                        addressBookFilePath, JsonAdaptedPersonListChange::new, JsonAdaptedPersonListChange.class)
+                : null;
+        addressBookSaver = new DataFileSaver<>("address book", addressBookFilePath,
+                addressBookStorage::saveAddressBook, ReadOnlyAddressBook::getPersonList,
+                ReadOnlyAddressBook::getVersion, AddressBookSnapshot::new, writer, addressBookJournal,
+                config.getJournalCompactionThreshold(), this::handleSaveFailure);
+
+        Path scheduleListFilePath = scheduleStorage.getScheduleStorageFilePath();
+        ListChangeJournal<Schedule> scheduleListJournal = config.isJournalEnabled()
+                ? new ListChangeJournal<>(ListChangeJournal.getJournalFilePath(scheduleListFilePath),
+                        scheduleListFilePath, JsonAdaptedScheduleListChange::new,
+                        JsonAdaptedScheduleListChange.class)
+                : null;
+        scheduleListSaver = new DataFileSaver<>("schedule list", scheduleListFilePath,
+                scheduleStorage::saveScheduleList, ReadOnlyScheduleList::getScheduleList,
+                ReadOnlyScheduleList::getVersion, ScheduleListSnapshot::new, writer, scheduleListJournal,
+                config.getJournalCompactionThreshold(), this::handleSaveFailure);
+    }
+
+    private static Config getSynchronousConfig() {
+        Config config = new Config();
+        config.setWriteBehindSaveEnabled(false);
+        config.setJournalEnabled(false);
+        return config;
+    }
+
+    private static Thread createWriterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
     }
 
     // ================ UserPrefs methods ==============================
@@ -70,13 +149,25 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        addressBookSaver.save(addressBook);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        addressBookSaver.saveTo(addressBook, filePath);
+    }
+
+    @Override
+    public ReadOnlyAddressBook replayAddressBookJournal(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        requireNonNull(addressBook);
+        AddressBook replayed = new AddressBook();
+        try {
+            replayed.setPersons(addressBookSaver.replayJournal(addressBook));
+        } catch (DuplicatePersonException e) {
+            logger.warning("Journal of " + getAddressBookFilePath() + " introduces duplicate persons");
+            throw new DataLoadingException(e);
+        }
+        return replayed;
     }
 
 
@@ -100,12 +191,105 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
-        saveScheduleList(scheduleList, this.scheduleStorage.getScheduleStorageFilePath());
+        scheduleListSaver.save(scheduleList);
     }
 
     @Override
     public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
-        logger.fine("Attempting to write to schedule list file: " + filePath);
-        scheduleStorage.saveScheduleList(scheduleList, filePath);
+        scheduleListSaver.saveTo(scheduleList, filePath);
+    }
+
+    @Override
+    public ReadOnlyScheduleList replayScheduleListJournal(ReadOnlyScheduleList scheduleList) {
+        requireNonNull(scheduleList);
+        ScheduleList replayed = new ScheduleList();
+        replayed.setSchedules(scheduleListSaver.replayJournal(scheduleList));
+        return replayed;
+    }
+
+
+    // ================ Write-behind and journal methods ==============================
+
+    @Override
+    public void attachJournals(ReadOnlyAddressBook addressBook, ReadOnlyScheduleList scheduleList) {
+        addressBookSaver.attachJournal(addressBook);
+        scheduleListSaver.attachJournal(scheduleList);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    private void handleSaveFailure(IOException e) {
+        saveFailureHandler.accept(e);
+    }
+
+    @Override
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            // The writer is single-threaded, so this task completes only after all previously queued writes
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for pending saves to complete");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to wait for pending saves: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * An immutable copy of an address book's persons, taken so it can be written out on the writer thread
+     * while the original keeps changing.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        AddressBookSnapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * An immutable copy of a schedule list's schedules, taken so it can be written out on the writer thread
+     * while the original keeps changing.
+     */
+    private static class ScheduleListSnapshot implements ReadOnlyScheduleList {
+        private final ObservableList<Schedule> schedules;
+        private final long version;
+
+        ScheduleListSnapshot(ReadOnlyScheduleList source) {
+            schedules = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getScheduleList()));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Schedule> getScheduleList() {
+            return schedules;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
     }
 }
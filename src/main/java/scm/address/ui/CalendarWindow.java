@@ -0,0 +1,90 @@
+package scm.address.ui;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import scm.address.commons.core.LogsCenter;
+import scm.address.model.schedule.Schedule;
+import scm.address.model.view.CalendarView;
+
+/**
+ * Controller for the calendar window, which is reused every time the calendar is shown.
+ * The calendar follows changes to the schedules while the window exists.
+ */
+public class CalendarWindow extends UiPart<Stage> {
+
+    private static final Logger logger = LogsCenter.getLogger(CalendarWindow.class);
+    private static final String FXML = "CalendarWindow.fxml";
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    private final CalendarView calendarView;
+
+    @FXML
+    private Label monthLabel;
+
+    @FXML
+    private StackPane calendarViewPlaceholder;
+
+    /**
+     * Creates a new CalendarWindow showing {@code schedules}.
+     *
+     * @param root Stage to use as the root of the CalendarWindow.
+     */
+    public CalendarWindow(Stage root, ObservableList<Schedule> schedules) {
+        super(FXML, root);
+        calendarView = new CalendarView(YearMonth.now(), schedules);
+        calendarViewPlaceholder.getChildren().add(calendarView);
+        updateMonthLabel();
+    }
+
+    /**
+     * Creates a new CalendarWindow showing {@code schedules}.
+     */
+    public CalendarWindow(ObservableList<Schedule> schedules) {
+        this(new Stage(), schedules);
+    }
+
+    /**
+     * Shows the calendar window at the current month, or focuses on it if it is already showing.
+     */
+    public void show() {
+        logger.fine("Showing calendar for the current month.");
+        calendarView.setCurrentYearMonth(YearMonth.now());
+        updateMonthLabel();
+        if (getRoot().isShowing()) {
+            getRoot().requestFocus();
+            return;
+        }
+        getRoot().show();
+        getRoot().centerOnScreen();
+    }
+
+    /**
+     * Hides the calendar window.
+     */
+    public void hide() {
+        getRoot().hide();
+    }
+
+    @FXML
+    private void handlePreviousMonth() {
+        calendarView.showPreviousMonth();
+        updateMonthLabel();
+    }
+
+    @FXML
+    private void handleNextMonth() {
+        calendarView.showNextMonth();
+        updateMonthLabel();
+    }
+
+    private void updateMonthLabel() {
+        monthLabel.setText(calendarView.getCurrentYearMonth().format(MONTH_FORMATTER));
+    }
+}
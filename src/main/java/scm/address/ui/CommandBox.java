@@ -1,12 +1,12 @@
 package scm.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import scm.address.logic.commands.CommandResult;
-import scm.address.logic.commands.exceptions.CommandException;
-import scm.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -33,6 +33,8 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is cleared once the command succeeds, or marked as failed if it fails, unless another
+     * command has been typed in the meantime.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +43,17 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -75,11 +82,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns the result, which completes on the JavaFX application thread.
          *
-         * @see scm.address.logic.Logic#execute(String)
+         * @see scm.address.logic.Logic#executeInBackground(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
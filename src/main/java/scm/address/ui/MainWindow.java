@@ -2,8 +2,13 @@ package scm.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -15,8 +20,11 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import scm.address.commons.core.GuiSettings;
 import scm.address.commons.core.LogsCenter;
+import scm.address.commons.util.StringUtil;
 import scm.address.logic.Logic;
 import scm.address.logic.commands.CommandResult;
+import scm.address.logic.commands.ExitCommand;
+import scm.address.logic.commands.HelpCommand;
 import scm.address.logic.commands.exceptions.CommandException;
 import scm.address.logic.parser.exceptions.ParseException;
 import scm.address.model.theme.Theme;
@@ -30,6 +38,12 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
     private static final String EXTENSIONS_CSS_FILE_PATH = "/view/Extensions.css";
+    private static final String MESSAGE_COMMAND_QUEUED =
+            "Data is still loading, the command will be run once loading completes: %1$s";
+    private static final String MESSAGE_COMMAND_REJECTED =
+            "The data could not be loaded, so only the %1$s and %2$s commands can be run: %3$s";
+    private static final Set<String> COMMANDS_WITHOUT_DATA =
+            Set.of(ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -41,6 +55,16 @@ public class MainWindow extends UiPart<Stage> {
     private ScheduleListPanel scheduleListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private CalendarWindow calendarWindow;
+    private StatusBarFooter statusBarFooter;
+
+    // Commands entered while the data is loading, run in order once it has loaded
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private boolean isLoadingData;
+    private boolean hasDataLoadingFailed;
+
+    // Commands entered that are being executed in the background or waiting to be
+    private int pendingCommandCount;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -127,14 +151,57 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(this::handleSaveFailure);
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows {@code status} as the progress of loading the data, and holds back the commands entered
+     * until {@link #handleDataLoaded()} is called.
+     */
+    void showDataLoadingStatus(String status) {
+        isLoadingData = true;
+        statusBarFooter.setLoadingStatus(status);
+    }
+
+    /**
+     * Clears the loading progress and runs the commands entered while the data was loading, in order.
+     */
+    void handleDataLoaded() {
+        isLoadingData = false;
+        statusBarFooter.clearLoadingStatus();
+        while (!queuedCommands.isEmpty()) {
+            executeCommand(queuedCommands.remove());
+        }
+    }
+
+    /**
+     * Shows {@code status} as the reason the data could not be loaded, and rejects every command entered from now
+     * on, including those held back while the data was loading, except for those that do not use the data.
+     * The partially loaded data is thus never saved over the data files, while the application can still be exited.
+     */
+    void handleDataLoadingFailure(String status) {
+        isLoadingData = false;
+        hasDataLoadingFailed = true;
+        statusBarFooter.setLoadingStatus(status);
+        while (!queuedCommands.isEmpty()) {
+            executeCommand(queuedCommands.remove());
+        }
+    }
+
+    /**
+     * Shows {@code message} about a failed background save in the result display.
+     * May be called from any thread.
+     */
+    private void handleSaveFailure(String message) {
+        Platform.runLater(() -> resultDisplay.setFeedbackToUser(message));
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -159,6 +226,16 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Opens the calendar window, creating it the first time, or focuses on it if it's already opened.
+     */
+    private void handleCalendar() {
+        if (calendarWindow == null) {
+            calendarWindow = new CalendarWindow(logic.getScheduleList().getScheduleList());
+        }
+        calendarWindow.show();
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -172,6 +249,9 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY(), logic.getGuiSettings().getTheme());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
+        if (calendarWindow != null) {
+            calendarWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -180,34 +260,77 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns the result, which completes on the JavaFX application
+     * thread once the result has been shown. Commands are executed in the order they are entered.
      *
-     * @see scm.address.logic.Logic#execute(String)
+     * @see scm.address.logic.Logic#executeInBackground(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        if (isLoadingData) {
+            logger.info("Queueing command until data has loaded: " + commandText);
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return CompletableFuture.completedFuture(new CommandResult(feedback));
+        }
+        if (hasDataLoadingFailed && !COMMANDS_WITHOUT_DATA.contains(getCommandWord(commandText))) {
+            logger.info("Rejecting command as data could not be loaded: " + commandText);
+            String feedback = String.format(MESSAGE_COMMAND_REJECTED, ExitCommand.COMMAND_WORD,
+                    HelpCommand.COMMAND_WORD, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return CompletableFuture.failedFuture(new CommandException(feedback));
+        }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+        statusBarFooter.setPendingCommandCount(++pendingCommandCount);
+        return logic.executeInBackground(commandText).whenCompleteAsync((commandResult, error) -> {
+            statusBarFooter.setPendingCommandCount(--pendingCommandCount);
+            if (error == null) {
+                handleCommandResult(commandResult);
+            } else {
+                handleCommandFailure(commandText, error);
             }
+        }, Platform::runLater);
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private static String getCommandWord(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 2);
+        return words[0];
+    }
 
-            if (commandResult.isChangeTheme()) {
-                handleChangeTheme();
-            }
+    /**
+     * Shows the result of a command that succeeded and carries out what it asks of the UI.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        if (commandResult.isChangeTheme()) {
+            handleChangeTheme();
+        }
+
+        if (commandResult.isShowCalendar()) {
+            handleCalendar();
+        }
+    }
+
+    /**
+     * Shows why the command {@code commandText} failed with {@code error}.
+     */
+    private void handleCommandFailure(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        } else {
+            logger.severe("Unexpected error while executing command: " + commandText + StringUtil.getDetails(error));
         }
+        resultDisplay.setFeedbackToUser(String.valueOf(error.getMessage()));
     }
 
     /**
@@ -13,10 +13,17 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String MESSAGE_PENDING_COMMANDS = "Running commands: %1$d";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private Label pendingCommandsStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +32,22 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code status} as the progress of loading the data.
+     */
+    public void setLoadingStatus(String status) {
+        loadingStatus.setText(status);
+    }
+
+    public void clearLoadingStatus() {
+        loadingStatus.setText("");
+    }
+
+    /**
+     * Shows {@code count} as the number of commands entered that have not completed, or nothing if there are none.
+     */
+    public void setPendingCommandCount(int count) {
+        pendingCommandsStatus.setText(count == 0 ? "" : String.format(MESSAGE_PENDING_COMMANDS, count));
+    }
+
 }
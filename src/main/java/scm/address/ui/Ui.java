@@ -10,4 +10,23 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code status} as the progress of loading the data, holding back the commands entered until
+     * {@link #handleDataLoaded()} is called. Must be called on the JavaFX application thread after {@link #start}.
+     */
+    void showDataLoadingStatus(String status);
+
+    /**
+     * Clears the loading progress and runs the commands held back while the data was loading.
+     * Must be called on the JavaFX application thread.
+     */
+    void handleDataLoaded();
+
+    /**
+     * Shows {@code status} as the reason the data could not be loaded, and rejects the commands held back while it
+     * was loading and those entered from now on, except for those that do not use the data, such as exiting.
+     * Must be called on the JavaFX application thread.
+     */
+    void handleDataLoadingFailure(String status);
+
 }
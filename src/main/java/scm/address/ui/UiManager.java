@@ -49,6 +49,21 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showDataLoadingStatus(String status) {
+        mainWindow.showDataLoadingStatus(status);
+    }
+
+    @Override
+    public void handleDataLoaded() {
+        mainWindow.handleDataLoaded();
+    }
+
+    @Override
+    public void handleDataLoadingFailure(String status) {
+        mainWindow.handleDataLoadingFailure(status);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
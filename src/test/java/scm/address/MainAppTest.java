@@ -0,0 +1,127 @@
+package scm.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.stage.Stage;
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.model.AddressBook;
+import scm.address.model.ModelManager;
+import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.ScheduleList;
+import scm.address.model.UserPrefs;
+import scm.address.model.person.Person;
+import scm.address.storage.AddressBookStorage;
+import scm.address.storage.JsonAddressBookStorage;
+import scm.address.storage.JsonScheduleStorage;
+import scm.address.storage.JsonUserPrefsStorage;
+import scm.address.storage.StorageManager;
+import scm.address.ui.Ui;
+
+public class MainAppTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final UiStub ui = new UiStub();
+
+    @Test
+    public void loadData_storageReadFailure_startsWithEmptyData() {
+        MainApp app = createMainApp(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+                throw new DataLoadingException(new IOException("dummy IO exception"));
+            }
+        });
+
+        app.loadData(Runnable::run);
+
+        assertEquals(new AddressBook(), new AddressBook(app.model.getAddressBook()));
+        assertEquals(List.of("loaded"), ui.events);
+    }
+
+    @Test
+    public void loadData_unexpectedStorageReadFailure_startsWithEmptyData() {
+        MainApp app = createMainApp(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+                throw new IllegalStateException("dummy unexpected exception");
+            }
+        });
+
+        app.loadData(Runnable::run);
+
+        assertTrue(app.model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(List.of("loaded"), ui.events);
+    }
+
+    @Test
+    public void loadData_modelUpdateFailure_uiToldLoadingFailed() {
+        MainApp app = createMainApp(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+                return Optional.of(getTypicalAddressBook());
+            }
+        });
+        app.model = new ModelManager() {
+            @Override
+            public void addPersons(Collection<Person> persons) {
+                throw new IllegalStateException("dummy unexpected exception");
+            }
+        };
+
+        app.loadData(Runnable::run);
+
+        assertEquals(1, ui.events.size());
+        assertTrue(ui.events.get(0).startsWith("failed: "));
+        assertFalse(ui.events.contains("loaded"));
+    }
+
+    private MainApp createMainApp(AddressBookStorage addressBookStorage) {
+        MainApp app = new MainApp();
+        app.storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonScheduleStorage(testFolder.resolve("schedules")));
+        app.model = new ModelManager(new AddressBook(), new UserPrefs(), new ScheduleList());
+        app.ui = ui;
+        return app;
+    }
+
+    /**
+     * A {@code Ui} that records whether the data has loaded.
+     */
+    private static class UiStub implements Ui {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void start(Stage primaryStage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showDataLoadingStatus(String status) {
+            // The progress of loading is not recorded
+        }
+
+        @Override
+        public void handleDataLoaded() {
+            events.add("loaded");
+        }
+
+        @Override
+        public void handleDataLoadingFailure(String status) {
+            events.add("failed: " + status);
+        }
+    }
+}
@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", writeBehindSaveEnabled=" + config.isWriteBehindSaveEnabled()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", prettyPrintDataEnabled=" + config.isPrettyPrintDataEnabled()
+                + ", syncOnSaveEnabled=" + config.isSyncOnSaveEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,31 @@
+package scm.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static scm.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class DataFileFormatTest {
+
+    @Test
+    public void toFilePath_knownExtension_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                DataFileFormat.BINARY.toFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.json"),
+                DataFileFormat.JSON.toFilePath(Paths.get("data", "addressbook.bin")));
+        assertEquals(Paths.get("addressbook.json"), DataFileFormat.JSON.toFilePath(Paths.get("addressbook.json")));
+    }
+
+    @Test
+    public void toFilePath_otherExtension_extensionAppended() {
+        assertEquals(Paths.get("data", "addressbook.txt.bin"),
+                DataFileFormat.BINARY.toFilePath(Paths.get("data", "addressbook.txt")));
+    }
+
+    @Test
+    public void toFilePath_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DataFileFormat.BINARY.toFilePath(null));
+    }
+}
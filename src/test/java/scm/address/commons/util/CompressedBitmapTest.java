@@ -0,0 +1,123 @@
+package scm.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    private final CompressedBitmap bitmap = new CompressedBitmap();
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    public void add_existingValue_returnsFalse() {
+        assertTrue(bitmap.add(70000));
+        assertFalse(bitmap.add(70000));
+        assertEquals(1, bitmap.cardinality());
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(4464));
+    }
+
+    @Test
+    public void remove_missingValue_returnsFalse() {
+        bitmap.add(1);
+        assertFalse(bitmap.remove(2));
+        assertFalse(bitmap.remove(-1));
+        assertTrue(bitmap.remove(1));
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void add_denseChunk_switchesToBitmapAndBack() {
+        int count = CompressedBitmap.MAX_ARRAY_CARDINALITY + 10;
+        for (int i = 0; i < count; i++) {
+            bitmap.add(i * 3);
+        }
+        assertEquals(count, bitmap.cardinality());
+        for (int i = 0; i < 20; i++) {
+            bitmap.remove(i * 3);
+        }
+        assertEquals(count - 20, bitmap.cardinality());
+        assertEquals(toBitSet(bitmap).cardinality(), bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(60));
+    }
+
+    @Test
+    public void operations_randomSets_matchBitSet() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 20; round++) {
+            // Alternates between sparse and dense sets over a few chunks
+            int bound = round % 2 == 0 ? 1 << 20 : 3 << 16;
+            BitSet first = new BitSet();
+            BitSet second = new BitSet();
+            CompressedBitmap firstBitmap = new CompressedBitmap();
+            CompressedBitmap secondBitmap = new CompressedBitmap();
+            for (int i = 0; i < 30000; i++) {
+                int value = random.nextInt(bound);
+                first.set(value);
+                firstBitmap.add(value);
+                value = random.nextInt(bound);
+                second.set(value);
+                secondBitmap.add(value);
+            }
+            for (int i = 0; i < 5000; i++) {
+                int value = random.nextInt(bound);
+                first.clear(value);
+                firstBitmap.remove(value);
+            }
+
+            assertEquals(first, toBitSet(firstBitmap));
+            assertEquals(first.cardinality(), firstBitmap.cardinality());
+
+            BitSet expectedAnd = (BitSet) first.clone();
+            expectedAnd.and(second);
+            assertEquals(expectedAnd, toBitSet(firstBitmap.and(secondBitmap)));
+            assertEquals(expectedAnd.cardinality(), firstBitmap.and(secondBitmap).cardinality());
+
+            BitSet expectedOr = (BitSet) first.clone();
+            expectedOr.or(second);
+            assertEquals(expectedOr, toBitSet(firstBitmap.or(secondBitmap)));
+            assertEquals(expectedOr.cardinality(), firstBitmap.or(secondBitmap).cardinality());
+
+            BitSet expectedAndNot = (BitSet) first.clone();
+            expectedAndNot.andNot(second);
+            assertEquals(expectedAndNot, toBitSet(firstBitmap.andNot(secondBitmap)));
+            assertEquals(expectedAndNot.cardinality(), firstBitmap.andNot(secondBitmap).cardinality());
+
+            assertEquals(first, toBitSet(firstBitmap.copy()));
+        }
+    }
+
+    @Test
+    public void clear_removesAllValues() {
+        bitmap.add(1);
+        bitmap.add(1 << 20);
+        bitmap.clear();
+        assertTrue(bitmap.isEmpty());
+        assertFalse(bitmap.iterator().hasNext());
+    }
+
+    private static BitSet toBitSet(CompressedBitmap bitmap) {
+        BitSet bitSet = new BitSet();
+        int previous = -1;
+        for (PrimitiveIterator.OfInt iterator = bitmap.iterator(); iterator.hasNext();) {
+            int value = iterator.nextInt();
+            assertTrue(value > previous);
+            bitSet.set(value);
+            previous = value;
+        }
+        return bitSet;
+    }
+}
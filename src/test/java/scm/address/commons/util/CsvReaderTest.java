@@ -0,0 +1,91 @@
+package scm.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static scm.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_unquotedFields_splitOnCommas() throws IOException {
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("d", "", "f ")), readAll("a,b,c\nd,,f \n"));
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepCommasQuotesAndLineBreaks() throws IOException {
+        assertEquals(List.of(List.of("Blk 1, \"A\" St", "line 1\r\nline 2", "")),
+                readAll("\"Blk 1, \"\"A\"\" St\",\"line 1\r\nline 2\",\"\"\r\n"));
+    }
+
+    @Test
+    public void readRecord_lineEndings_allEndRecords() throws IOException {
+        assertEquals(List.of(List.of("a"), List.of("b"), List.of("c"), List.of("d")), readAll("a\r\nb\rc\nd"));
+    }
+
+    @Test
+    public void readRecord_emptyFieldsAtEnd_kept() throws IOException {
+        assertEquals(List.of(List.of("a", ""), List.of("b", "", "")), readAll("a,\nb,,"));
+    }
+
+    @Test
+    public void readRecord_blankLinesAndByteOrderMark_skipped() throws IOException {
+        assertEquals(List.of(List.of("a"), List.of("b")), readAll("\uFEFF\n\na\r\n\r\nb\n\n"));
+        assertEquals(List.of(), readAll("\uFEFF"));
+    }
+
+    @Test
+    public void readRecord_quoteInUnquotedField_readLiterally() throws IOException {
+        assertEquals(List.of(List.of("5\" floppy")), readAll("5\" floppy"));
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        CsvReader csvReader = new CsvReader(new StringReader("a\n\"b\nc"));
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), () -> {
+            csvReader.readRecord();
+            csvReader.readRecord();
+        });
+    }
+
+    @Test
+    public void readRecord_characterAfterClosingQuote_throwsIoException() {
+        CsvReader csvReader = new CsvReader(new StringReader("\"a\nb\"c"));
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_CHARACTER_AFTER_QUOTE, 'c', 2),
+                csvReader::readRecord);
+    }
+
+    @Test
+    public void getLineNumber_multiLineRecords_countsLines() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("\"a\r\nb\",c\r\n\nd\n"));
+        csvReader.readRecord();
+        assertEquals(3, csvReader.getLineNumber());
+        csvReader.readRecord();
+        assertEquals(5, csvReader.getLineNumber());
+    }
+
+    @Test
+    public void readRecord_recordsLongerThanBuffer_readWhole() throws IOException {
+        String longField = "x".repeat(20000);
+        assertEquals(List.of(List.of(longField, "y"), List.of(longField)),
+                readAll(longField + ",\"y\"\r\n\"" + longField + "\""));
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader csvReader = new CsvReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+        return records;
+    }
+}
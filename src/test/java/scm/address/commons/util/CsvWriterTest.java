@@ -0,0 +1,53 @@
+package scm.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    private final StringWriter output = new StringWriter();
+    private final CsvWriter csvWriter = new CsvWriter(output);
+
+    @Test
+    public void writeRecord_plainFields_unquoted() throws IOException {
+        csvWriter.writeRecord(List.of("a", "", "b c"));
+        csvWriter.flush();
+        assertEquals("a,,b c\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_quotedAndEscaped() throws IOException {
+        csvWriter.writeRecord(List.of("Blk 1, \"A\" St", "\"", "line 1\nline 2", " padded"));
+        csvWriter.flush();
+        assertEquals("\"Blk 1, \"\"A\"\" St\",\"\"\"\",\"line 1\nline 2\",\" padded\"\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws IOException {
+        List<String> fields = List.of("a,b", "\"\"", "x\r\ny", "", " z ", "5\" floppy");
+        csvWriter.writeRecord(fields);
+        csvWriter.writeRecord(List.of("next"));
+        csvWriter.flush();
+
+        CsvReader csvReader = new CsvReader(new StringReader(output.toString()));
+        assertEquals(fields, csvReader.readRecord());
+        assertEquals(List.of("next"), csvReader.readRecord());
+    }
+
+    @Test
+    public void isQuotingNeeded() {
+        assertFalse(CsvWriter.isQuotingNeeded(""));
+        assertFalse(CsvWriter.isQuotingNeeded("a b"));
+        assertTrue(CsvWriter.isQuotingNeeded("a,b"));
+        assertTrue(CsvWriter.isQuotingNeeded("a\rb"));
+        assertTrue(CsvWriter.isQuotingNeeded("a "));
+    }
+}
@@ -1,13 +1,36 @@
 package scm.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static scm.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipException;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +43,126 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_newFileInMissingFolder_fileCreated() throws IOException {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFiles() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFile(file, "new content");
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void writeToFile_syncDisabled_fileWritten() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.setSyncOnWriteEnabled(false);
+        try {
+            FileUtil.writeToFile(file, "content");
+        } finally {
+            FileUtil.setSyncOnWriteEnabled(true);
+        }
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_writerFails_originalFileKept() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, outputStream -> {
+            outputStream.write("partial".getBytes());
+            throw new IOException("interrupted");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void writeToFile_existingFile_permissionsKept() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "new content");
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFile_newFile_defaultPermissions() throws IOException {
+        Path createdFile = Files.createFile(testFolder.resolve("created.txt"));
+        assumeTrue(Files.getFileAttributeView(createdFile, PosixFileAttributeView.class) != null);
+
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals(Files.getPosixFilePermissions(createdFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFile_readOnlyFile_throwsAccessDeniedException() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        file.toFile().setReadOnly();
+        // Files stay writable to a superuser
+        assumeFalse(Files.isWritable(file));
+
+        assertThrows(AccessDeniedException.class, () -> FileUtil.writeToFile(file, "new content"));
+        assertEquals("old content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileIfChanged_sameContent_notWritten() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        assertTrue(FileUtil.writeToFileIfChanged(file, "content"));
+        assertFalse(FileUtil.writeToFileIfChanged(file, "content"));
+        assertTrue(FileUtil.writeToFileIfChanged(file, "new content"));
+        assertEquals("new content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, outputStream -> outputStream.write("first ".getBytes()));
+        FileUtil.appendToFile(file, outputStream -> outputStream.write("second".getBytes()));
+        assertEquals("first second", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void gzipCompressed_readWithOpenInputStream_contentRestored() throws IOException {
+        Path file = testFolder.resolve("file.txt.gz");
+        byte[] content = "content ".repeat(10000).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFile(file, FileUtil.gzipCompressed(outputStream -> outputStream.write(content)));
+
+        assertTrue(Files.size(file) < content.length);
+        try (InputStream inputStream = FileUtil.openInputStream(file, true)) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void openInputStream_notGzipCompressed_contentUnchanged() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        try (InputStream inputStream = FileUtil.openInputStream(file, false)) {
+            assertEquals("content", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertThrows(ZipException.class, () -> FileUtil.openInputStream(file, true));
+    }
+
+    private static List<Path> listFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
 }
@@ -1,12 +1,19 @@
 package scm.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.exceptions.IllegalValueException;
 import scm.address.testutil.SerializableTestClass;
 import scm.address.testutil.TestUtil;
 
@@ -39,6 +46,53 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArrayFile(missingFile, "elements", SerializableTestClass.class, element -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_validFile_handlesElementsInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\" : { \"elements\" : [ 1 ] }, "
+                + "\"elements\" : [ { \"name\" : \"first\" }, { \"name\" : \"second\" } ] }");
+
+        List<String> names = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", SerializableTestClass.class,
+            element -> names.add(element.getName())));
+        assertEquals(List.of("first", "second"), names);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingArrayField_handlesNoElements() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\" : [ { \"name\" : \"first\" } ] }");
+
+        List<String> names = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", SerializableTestClass.class,
+            element -> names.add(element.getName())));
+        assertTrue(names.isEmpty());
+    }
+
+    @Test
+    public void readJsonArrayFile_invalidJson_throwsDataLoadingException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"elements\" : [ { \"name\" : \"first\" }, ");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements",
+            SerializableTestClass.class, element -> {}));
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"elements\" : [ \"first\" ] }");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements",
+            SerializableTestClass.class, element -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_elementRejected_throwsIllegalValueException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"elements\" : [ { \"name\" : \"first\" } ] }");
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements",
+            SerializableTestClass.class, element -> {
+                throw new IllegalValueException("rejected");
+            }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,5 +1,7 @@
 package scm.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static scm.address.testutil.Assert.assertThrows;
@@ -123,6 +125,41 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase, getFoldedWords and containsFoldedWord ----------------------
+
+    @Test
+    public void foldCase_differentCases_sameFoldedWord() {
+        assertEquals(StringUtil.foldCase("Alice"), StringUtil.foldCase("aLICE"));
+        // titlecase, upper and lower case forms of the same letter
+        assertEquals(StringUtil.foldCase("\u01c5"), StringUtil.foldCase("\u01c4"));
+        assertEquals(StringUtil.foldCase("\u01c5"), StringUtil.foldCase("\u01c6"));
+    }
+
+    @Test
+    public void getFoldedWords_extraWhitespace_ignored() {
+        assertArrayEquals(new String[] {"abc", "def"}, StringUtil.getFoldedWords("  ABc \t def "));
+        assertArrayEquals(new String[0], StringUtil.getFoldedWords(" "));
+    }
+
+    @Test
+    public void containsFoldedWord_matchesContainsWordIgnoreCase() {
+        String[] sentences = {"ABc def", "aaa bBb ccc", "  \u0130stanbul  ", "stra\u00dfe"};
+        String[] words = {"abc", "DEF", "AB", "bbB", "\u0069stanbul", "\u0130STANBUL", "STRASSE", "STRA\u00dfE"};
+        for (String sentence : sentences) {
+            String[] foldedWords = StringUtil.getFoldedWords(sentence);
+            for (String word : words) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, word),
+                        StringUtil.containsFoldedWord(foldedWords, StringUtil.foldCase(word)), sentence + "/" + word);
+            }
+        }
+    }
+
+    @Test
+    public void containsFoldedWord_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsFoldedWord(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsFoldedWord(new String[0], null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
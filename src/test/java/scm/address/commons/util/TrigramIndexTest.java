@@ -0,0 +1,56 @@
+package scm.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static scm.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex<String> index = new TrigramIndex<>();
+
+    @Test
+    public void add_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add("item", null));
+    }
+
+    @Test
+    public void findCandidates_substringOfText_findsItemIgnoringCase() {
+        index.add("alice", "Alice Pauline");
+        index.add("benson", "Benson Meier");
+        assertEquals(Optional.of(Set.of("alice")), index.findCandidates("PAUL"));
+        assertEquals(Optional.of(Set.of("benson")), index.findCandidates("son mei"));
+    }
+
+    @Test
+    public void findCandidates_trigramsInDifferentPlaces_returnsUnverifiedCandidate() {
+        index.add("item", "abcd xbcy");
+        // "abcy" is not in the text, but its trigrams "abc" and "bcy" are
+        assertEquals(Optional.of(Set.of("item")), index.findCandidates("abcy"));
+    }
+
+    @Test
+    public void findCandidates_missingTrigram_returnsNoCandidates() {
+        index.add("alice", "Alice Pauline");
+        assertEquals(Optional.of(Set.of()), index.findCandidates("alix"));
+    }
+
+    @Test
+    public void findCandidates_shortSubstring_returnsEmptyOptional() {
+        index.add("alice", "Alice Pauline");
+        assertEquals(Optional.empty(), index.findCandidates("al"));
+    }
+
+    @Test
+    public void remove_item_noLongerFound() {
+        index.add("alice", "Alice Pauline");
+        index.add("alicia", "Alicia Keys");
+        index.remove("alice", "Alice Pauline");
+        assertEquals(Optional.of(Set.of("alicia")), index.findCandidates("alic"));
+        index.clear();
+        assertEquals(Optional.of(Set.of()), index.findCandidates("alic"));
+    }
+}
@@ -1,6 +1,8 @@
 package scm.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static scm.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static scm.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static scm.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -14,13 +16,22 @@ import static scm.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+import scm.address.commons.core.Config;
 import scm.address.commons.core.GuiSettings;
 import scm.address.logic.commands.AddCommand;
+import scm.address.logic.commands.ClearCommand;
 import scm.address.logic.commands.CommandResult;
 import scm.address.logic.commands.ListCommand;
 import scm.address.logic.commands.exceptions.CommandException;
@@ -87,6 +98,98 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeInBackground_commands_executedInOrderWithChangesOnFxThread() throws Exception {
+        ExecutorService fxThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "fx"));
+        List<String> changingThreads = new CopyOnWriteArrayList<>();
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                changingThreads.add(Thread.currentThread().getName()));
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleStorage(temporaryFolder.resolve("scheduleList.json"))), fxThread);
+        try {
+            CompletableFuture<CommandResult> add = logic.executeInBackground(
+                    AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+            CompletableFuture<CommandResult> list = logic.executeInBackground(ListCommand.COMMAND_WORD);
+            CompletableFuture<CommandResult> clear = logic.executeInBackground(ClearCommand.COMMAND_WORD);
+
+            // each command sees the changes made by the commands before it
+            assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), list.get().getFeedbackToUser());
+            assertEquals(ClearCommand.MESSAGE_SUCCESS, clear.get().getFeedbackToUser());
+            assertTrue(add.isDone());
+            assertEquals(new ModelManager(), model);
+
+            assertFalse(changingThreads.isEmpty());
+            assertTrue(changingThreads.stream().allMatch("fx"::equals));
+        } finally {
+            fxThread.shutdown();
+        }
+    }
+
+    @Test
+    public void executeInBackground_invalidCommand_completesExceptionally() {
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleStorage(temporaryFolder.resolve("scheduleList.json"))), Runnable::run);
+        CompletableFuture<CommandResult> result = logic.executeInBackground("delete 9");
+        assertThrows(ExecutionException.class, result::get);
+        Throwable error = result.handle((unused, e) -> e).join();
+        assertTrue(error instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, error.getMessage());
+    }
+
+    @Test
+    public void shutdown_commandWaitingForFxThread_commandCompletes() throws Exception {
+        // The JavaFX application thread is blocked in MainApp#stop when shutting down, so it runs nothing
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleStorage(temporaryFolder.resolve("scheduleList.json"))), runnable -> {});
+        CompletableFuture<CommandResult> add = logic.executeInBackground(
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        logic.shutdown();
+
+        assertTrue(add.isDone());
+        add.get();
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void executeInBackground_afterShutdown_completesExceptionally() {
+        logic.shutdown();
+        CompletableFuture<CommandResult> result = logic.executeInBackground(ListCommand.COMMAND_WORD);
+        Throwable error = result.handle((unused, e) -> e).join();
+        assertTrue(error instanceof CommandException);
+        assertEquals(LogicManager.MESSAGE_SHUT_DOWN, error.getMessage());
+    }
+
+    @Test
+    public void setSaveFailureHandler_backgroundSaveFails_handlerReceivesMessage() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_AD_EXCEPTION;
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleStorage(temporaryFolder.resolve("scheduleList.json")), new Config());
+        logic = new LogicManager(model, storage);
+        List<String> messages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        storage.flush();
+
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage())), messages);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
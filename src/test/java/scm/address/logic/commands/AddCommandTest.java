@@ -10,7 +10,10 @@ import static scm.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -125,6 +128,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(Collection<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -160,6 +168,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> findPersons(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Stream<Person> streamPersons(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setScheduleList(ReadOnlyScheduleList newData) {
             throw new AssertionError("This method should not be called.");
@@ -175,6 +193,11 @@ public class AddCommandTest {
             return;
         };
 
+        @Override
+        public void addSchedules(Collection<Schedule> schedules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setSchedule(Schedule scheduleToEdit, Schedule editedSchedule) {
             return;
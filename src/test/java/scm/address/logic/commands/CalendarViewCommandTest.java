@@ -0,0 +1,20 @@
+package scm.address.logic.commands;
+
+import static scm.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import scm.address.model.Model;
+import scm.address.model.ModelManager;
+
+public class CalendarViewCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_calendarView_showsCalendarWindow() {
+        CommandResult expectedCommandResult = new CommandResult(CalendarViewCommand.MESSAGE_SUCCESS,
+                false, false, false, true);
+        assertCommandSuccess(new CalendarViewCommand(), model, expectedCommandResult, expectedModel);
+    }
+}
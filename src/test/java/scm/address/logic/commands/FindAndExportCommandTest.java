@@ -1,5 +1,6 @@
 package scm.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static scm.address.testutil.TypicalPersons.ALICE;
@@ -7,9 +8,11 @@ import static scm.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -20,7 +23,9 @@ import scm.address.model.Model;
 import scm.address.model.ModelManager;
 import scm.address.model.ScheduleList;
 import scm.address.model.UserPrefs;
+import scm.address.model.person.HasTagPredicate;
 import scm.address.model.person.Person;
+import scm.address.testutil.PersonBuilder;
 
 public class FindAndExportCommandTest {
     @TempDir
@@ -72,6 +77,65 @@ public class FindAndExportCommandTest {
         Files.deleteIfExists(tempFile);
     }
 
+    @Test
+    public void execute_exportAsCsv_readBackByImport() throws Exception {
+        Person person = new PersonBuilder(ALICE).withAddress("Blk 1, \"The Sail\", #02-01")
+                .withTags("friends", "owesMoney").build();
+        Model model = new ModelManager();
+        model.addPerson(person);
+        File file = testFolder.resolve("export.csv").toFile();
+
+        new FindAndExportCommand("friends", null, null, file).execute(model);
+
+        List<ImportCommand.ImportedFile> importedFiles = new ImportCommand(Set.of(file)).readFiles();
+        assertEquals(List.of(person), importedFiles.get(0).getPersons());
+    }
+
+    @Test
+    public void execute_exportAsJson_readBackByImport() throws Exception {
+        File file = testFolder.resolve("export.json").toFile();
+
+        new FindAndExportCommand("friends", null, null, file).execute(model);
+
+        List<ImportCommand.ImportedFile> importedFiles = new ImportCommand(Set.of(file)).readFiles();
+        assertEquals(model.findPersons(new HasTagPredicate("friends")), importedFiles.get(0).getPersons());
+    }
+
+    @Test
+    public void execute_exportAsGzipCompressedCsv_readBackByImport() throws Exception {
+        assertGzipCompressedExportReadBack(testFolder.resolve("export.csv.gz").toFile());
+    }
+
+    @Test
+    public void execute_exportAsGzipCompressedJson_readBackByImport() throws Exception {
+        assertGzipCompressedExportReadBack(testFolder.resolve("export.json.gz").toFile());
+    }
+
+    /**
+     * Exports the persons tagged "friends" to the gzip-compressed {@code file} and checks that importing the file
+     * reads them back.
+     */
+    private void assertGzipCompressedExportReadBack(File file) throws Exception {
+        new FindAndExportCommand("friends", null, null, file).execute(model);
+
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            // Every gzip file starts with these two bytes
+            assertEquals(0x1f, inputStream.read());
+            assertEquals(0x8b, inputStream.read());
+        }
+        List<ImportCommand.ImportedFile> importedFiles = new ImportCommand(Set.of(file)).readFiles();
+        assertEquals(model.findPersons(new HasTagPredicate("friends")), importedFiles.get(0).getPersons());
+    }
+
+    @Test
+    public void execute_export_filteredPersonListUnchanged() throws Exception {
+        List<Person> expectedPersons = List.copyOf(model.getFilteredPersonList());
+
+        new FindAndExportCommand("owesMoney", null, null, testFolder.resolve("export.csv").toFile()).execute(model);
+
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_emptyFilteredList_failure() throws Exception {
         Model emptyModel = new ModelManager(new AddressBook(),
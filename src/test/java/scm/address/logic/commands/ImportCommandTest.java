@@ -1,9 +1,9 @@
 package scm.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static scm.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static scm.address.testutil.Assert.assertThrows;
 import static scm.address.testutil.TypicalPersons.JAMES;
 import static scm.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -14,18 +14,22 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import scm.address.commons.exceptions.DataLoadingException;
 import scm.address.commons.exceptions.IllegalValueException;
+import scm.address.logic.commands.ImportCommand.ImportedFile;
 import scm.address.logic.commands.exceptions.CommandException;
 import scm.address.model.AddressBook;
 import scm.address.model.Model;
 import scm.address.model.ModelManager;
 import scm.address.model.ScheduleList;
 import scm.address.model.UserPrefs;
-import scm.address.storage.JsonAdaptedPerson;
+import scm.address.model.person.Person;
+import scm.address.testutil.PersonBuilder;
 
 
 public class ImportCommandTest {
@@ -39,6 +43,8 @@ public class ImportCommandTest {
     private static final String ADDRESS_BOOK_CSV_PATH = "./src/test/data/ImportCommandTest/addressbook.csv";
     private static final String ADDRESS_BOOK_CSV_NO_TAGS_PATH = "./src/test/data/ImportCommandTest"
             + "/addressbookNoTags.csv";
+    private static final String REORDERED_COLUMNS_CSV_PATH = "./src/test/data/ImportCommandTest"
+            + "/reorderedColumns.csv";
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
 
     @Test
@@ -53,9 +59,48 @@ public class ImportCommandTest {
         ImportCommand importCommand = new ImportCommand(curHashSet);
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()),
                 new UserPrefs(), new ScheduleList());
-        String expectedMessage = "Contacts from files imported";
         expectedModel.addPerson(JAMES);
-        assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
+        CommandResult result = assertDoesNotThrow(() -> importCommand.execute(model));
+        assertTrue(result.getFeedbackToUser().startsWith(
+                ImportCommand.MESSAGE_SUCCESS + "\naddressbook.json: 1 contacts in "));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_multipleFiles_importedInPathOrderWithTimings() throws Exception {
+        Model emptyModel = new ModelManager();
+        CommandResult result = new ImportCommand(Set.of(new File(TEST_CSV_FILE_PATH), new File(ADDRESS_BOOK_PATH)))
+                .execute(emptyModel);
+
+        assertEquals(List.of("James Chia", "Alex Yeoh", "Bernice Yu", "Alex clone"), emptyModel.getFilteredPersonList()
+                .stream().map(person -> person.getName().fullName).collect(Collectors.toList()));
+        String[] feedbackLines = result.getFeedbackToUser().split("\n");
+        assertEquals(3, feedbackLines.length);
+        assertTrue(feedbackLines[1].startsWith("addressbook.json: 1 contacts in "));
+        assertTrue(feedbackLines[2].matches("contacts\\.csv: 3 contacts in \\d+ ms \\(\\d+ contacts/s\\)"));
+    }
+
+    @Test
+    public void execute_manyPersons_addedAsSingleChange() throws Exception {
+        Model emptyModel = new ModelManager();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        emptyModel.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        new ImportCommand(Set.of(new File(TEST_CSV_FILE_PATH), new File(ADDRESS_BOOK_PATH))).execute(emptyModel);
+
+        assertEquals(1, changes.size());
+        assertEquals(4, emptyModel.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_samePersonInTwoFiles_failure() {
+        Model emptyModel = new ModelManager();
+        ImportCommand importCommand = new ImportCommand(Set.of(new File(ADDRESS_BOOK_PATH),
+                new File(ADDRESS_BOOK_CSV_PATH)));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_DUPLICATE_IMPORTED_PERSON, JAMES.getName(),
+                JAMES.getPhone());
+        assertThrows(CommandException.class, expectedMessage, () -> importCommand.execute(emptyModel));
+        assertEquals(new ModelManager(), emptyModel);
     }
 
     @Test
@@ -87,6 +132,15 @@ public class ImportCommandTest {
         assertEquals(testModel, expectedModel);
     }
 
+    @Test
+    public void readFiles_reorderedCsvColumns_mappedByHeader() throws Exception {
+        List<ImportedFile> importedFiles = new ImportCommand(Set.of(new File(REORDERED_COLUMNS_CSV_PATH))).readFiles();
+
+        Person expectedPerson = new PersonBuilder(JAMES).withAddress("Block 321, \"James\" Street 5")
+                .withTags("friend", "colleague").build();
+        assertEquals(List.of(expectedPerson), importedFiles.get(0).getPersons());
+    }
+
     @Test
     public void readPersonsFromCsv_validFileNoTags_success() throws CommandException {
         HashSet<File> curHashSet = new HashSet<>();
@@ -176,12 +230,11 @@ public class ImportCommandTest {
     }
 
     @Test
-    public void retrievePersonsFromFile_fileNotExist_failure() {
-        List<JsonAdaptedPerson> list = new ArrayList<>();
+    public void readFiles_fileNotExist_failure() {
         HashSet<File> curHashSet = new HashSet<>();
         curHashSet.add(new File(UNKNOWN_FILE_NAME));
         ImportCommand importCommand = new ImportCommand(curHashSet);
-        assertThrows(IllegalValueException.class, () -> importCommand.retrievePersonsFromFile(list));
+        assertThrows(IllegalValueException.class, () -> importCommand.readFiles());
     }
 
     @Test
@@ -228,8 +281,7 @@ public class ImportCommandTest {
         }
 
         @Override
-        public void retrievePersonsFromFile(List<JsonAdaptedPerson> savedPersons)
-                throws IllegalValueException, DataLoadingException {
+        public List<ImportedFile> readFiles() throws IllegalValueException, DataLoadingException {
             throw new DataLoadingException(new Exception("Data loading exception."));
         }
     }
@@ -246,8 +298,7 @@ public class ImportCommandTest {
         }
 
         @Override
-        public void retrievePersonsFromFile(List<JsonAdaptedPerson> savedPersons)
-                throws IllegalValueException, DataLoadingException {
+        public List<ImportedFile> readFiles() throws IllegalValueException, DataLoadingException {
             throw new IllegalValueException("Illegal value exception.");
         }
     }
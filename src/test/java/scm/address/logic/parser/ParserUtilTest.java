@@ -50,6 +50,7 @@ public class ParserUtilTest {
     private static final String INVALID_FILE_FORMAT_FILENAME = "hello.xyz";
     private static final String VALID_FILE_FORMAT_FILENAME_JSON = "filename.json";
     private static final String VALID_FILE_FORMAT_FILENAME_CSV = "filename.csv";
+    private static final String VALID_FILE_FORMAT_FILENAME_CSV_GZIP = "filename.csv.gz";
 
     @Test
     public void parseFileForExport_validJsonFormat_success() throws Exception {
@@ -68,6 +69,13 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseFileForExport(INVALID_FILE_FORMAT_FILENAME));
     }
 
+    @Test
+    public void parseFileForExport_validGzipFormat_success() throws Exception {
+        assertEquals(VALID_FILE_FORMAT_FILENAME_CSV_GZIP,
+                ParserUtil.parseFileForExport(VALID_FILE_FORMAT_FILENAME_CSV_GZIP).getName());
+        assertThrows(ParseException.class, () -> ParserUtil.parseFileForExport("filename.gz"));
+    }
+
     @Test
     public void parseIndex_invalidInput_throwsParseException() {
         assertThrows(ParseException.class, () -> ParserUtil.parseIndex("10 a"));
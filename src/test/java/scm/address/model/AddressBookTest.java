@@ -2,6 +2,7 @@ package scm.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static scm.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static scm.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -85,6 +86,39 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_modifyPersons_versionChanges() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, afterAdd);
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        long afterEdit = addressBook.getVersion();
+        assertNotEquals(afterAdd, afterEdit);
+
+        addressBook.removePerson(editedAlice);
+        assertNotEquals(afterEdit, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_addNoPersons_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.addPersons(Collections.emptyList());
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_readOnly_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -105,6 +139,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
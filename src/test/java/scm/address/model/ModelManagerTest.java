@@ -7,18 +7,33 @@ import static scm.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static scm.address.testutil.Assert.assertThrows;
 import static scm.address.testutil.TypicalPersons.ALICE;
 import static scm.address.testutil.TypicalPersons.BENSON;
+import static scm.address.testutil.TypicalPersons.DANIEL;
+import static scm.address.testutil.TypicalPersons.getTypicalPersons;
+import static scm.address.testutil.TypicalSchedules.EXERCISE;
+import static scm.address.testutil.TypicalSchedules.MEETING;
 import static scm.address.testutil.TypicalSchedules.getTypicalScheduleList;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import scm.address.commons.core.GuiSettings;
 import scm.address.model.person.NameContainsKeywordsPredicate;
+import scm.address.model.person.Person;
+import scm.address.model.person.TagsContainKeywordsPredicate;
+import scm.address.model.schedule.DuringDateTimePredicate;
+import scm.address.model.schedule.Schedule;
+import scm.address.model.schedule.TitleContainsKeywordsPredicate;
 import scm.address.model.theme.ThemeCollection;
 import scm.address.testutil.AddressBookBuilder;
+import scm.address.testutil.PersonBuilder;
+import scm.address.testutil.ScheduleBuilder;
 
 public class ModelManagerTest {
     private static final String DEFAULT_THEME = ThemeCollection.getDarkTheme().getThemeName();
@@ -104,6 +119,118 @@ public class ModelManagerTest {
         assertEquals(modelManagerOne, modelManagerTwo);
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_filtersAndTracksLaterChanges() {
+        modelManager.addPersons(getTypicalPersons());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier"))
+                .and(new TagsContainKeywordsPredicate(List.of("FRIENDS"))));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // persons edited after filtering are tested with the predicate
+        Person editedBenson = new PersonBuilder(BENSON).withTags("colleagues").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, DANIEL), modelManager.getFilteredPersonList());
+
+        // the index follows the edits
+        modelManager.updateFilteredPersonList(new TagsContainKeywordsPredicate(List.of("colleagues")));
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedQuery_cachedUntilAddressBookChanges() {
+        modelManager.addPersons(getTypicalPersons());
+        QueryCache<?, ?> cache = modelManager.getPersonQueryCache();
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier"))
+                .and(new TagsContainKeywordsPredicate(List.of("friends"))));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier"))
+                .and(new TagsContainKeywordsPredicate(List.of("friends"))));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier"))
+                .and(new TagsContainKeywordsPredicate(List.of("friends"))));
+        assertEquals(Collections.singletonList(DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void findPersons_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPersons(null));
+    }
+
+    @Test
+    public void findPersons_filteredPersonListUnchanged() {
+        modelManager.addPersons(getTypicalPersons());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice")));
+
+        List<Person> persons = modelManager.findPersons(new NameContainsKeywordsPredicate(List.of("meier"))
+                .and(new TagsContainKeywordsPredicate(List.of("friends"))));
+        assertEquals(Arrays.asList(BENSON, DANIEL), persons);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.findPersons(person -> person.getName()
+                .fullName.contains("Meier")));
+    }
+
+    @Test
+    public void streamPersons_filteredPersonListUnchanged() {
+        modelManager.addPersons(getTypicalPersons());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice")));
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.streamPersons(
+                new NameContainsKeywordsPredicate(List.of("meier"))
+                        .and(new TagsContainKeywordsPredicate(List.of("friends")))).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_addressBookChangedAfterwards_snapshotUnchanged() {
+        modelManager.addPersons(getTypicalPersons());
+        List<Person> persons = modelManager.findPersons(new TagsContainKeywordsPredicate(List.of("friends")));
+        List<Person> expectedPersons = List.copyOf(persons);
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(expectedPersons, persons);
+        assertThrows(UnsupportedOperationException.class, () -> persons.remove(0));
+        assertFalse(modelManager.findPersons(new TagsContainKeywordsPredicate(List.of("friends"))).contains(BENSON));
+    }
+
+    @Test
+    public void updateFilteredScheduleList_repeatedQuery_cachedUntilScheduleListChanges() {
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), getTypicalScheduleList());
+        DuringDateTimePredicate predicate = new DuringDateTimePredicate(Optional.of(MEETING.getStartDateTime()));
+        model.updateFilteredScheduleList(predicate.and(new TitleContainsKeywordsPredicate(List.of("meeting"))));
+        model.updateFilteredScheduleList(predicate.and(new TitleContainsKeywordsPredicate(List.of("meeting"))));
+        assertEquals(1, model.getScheduleQueryCache().getHitCount());
+
+        model.removeSchedule(MEETING);
+        model.updateFilteredScheduleList(predicate.and(new TitleContainsKeywordsPredicate(List.of("meeting"))));
+        assertTrue(model.getFilteredScheduleList().isEmpty());
+        assertEquals(2, model.getScheduleQueryCache().getMissCount());
+    }
+
+    @Test
+    public void updateFilteredScheduleList_indexedPredicate_filtersAndTracksLaterChanges() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), getTypicalScheduleList());
+        DuringDateTimePredicate predicate = new DuringDateTimePredicate(Optional.of(MEETING.getStartDateTime()));
+        model.updateFilteredScheduleList(predicate.and(new TitleContainsKeywordsPredicate(List.of("meeting"))));
+        assertEquals(Collections.singletonList(MEETING), model.getFilteredScheduleList());
+
+        // schedules added after filtering are tested with the predicate
+        Schedule ongoingMeeting = new ScheduleBuilder(EXERCISE).withTitle("Team meeting")
+                .withStartDateTime("2024-03-10 15:00").withEndDateTime("2024-03-10 18:00").build();
+        model.addSchedule(EXERCISE);
+        model.addSchedule(ongoingMeeting);
+        assertEquals(Arrays.asList(MEETING, ongoingMeeting), model.getFilteredScheduleList());
+
+        model.removeSchedule(MEETING);
+        assertEquals(Collections.singletonList(ongoingMeeting), model.getFilteredScheduleList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,71 @@
+package scm.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static scm.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryCacheTest {
+
+    private final List<String> queried = new ArrayList<>();
+    private final Function<String, Optional<List<String>>> query = predicate -> {
+        queried.add(predicate);
+        return Optional.of(List.of(predicate + " result"));
+    };
+    private final QueryCache<String, String> cache = new QueryCache<>(2);
+
+    @Test
+    public void get_samePredicateAndVersion_hit() {
+        assertEquals(Optional.of(List.of("a result")), cache.get("a", 1, query));
+        assertEquals(Optional.of(List.of("a result")), cache.get(new String("a"), 1, query));
+        assertEquals(List.of("a"), queried);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_versionChanged_queriesAgain() {
+        cache.get("a", 1, query);
+        cache.get("b", 1, query);
+        cache.get("a", 2, query);
+        assertEquals(List.of("a", "b", "a"), queried);
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void get_full_evictsLeastRecentlyUsed() {
+        cache.get("a", 1, query);
+        cache.get("b", 1, query);
+        cache.get("a", 1, query);
+        cache.get("c", 1, query);
+        assertEquals(2, cache.size());
+
+        // "b" was evicted, "a" was not
+        cache.get("a", 1, query);
+        cache.get("b", 1, query);
+        assertEquals(List.of("a", "b", "c", "b"), queried);
+    }
+
+    @Test
+    public void get_emptyResult_cached() {
+        Function<String, Optional<List<String>>> emptyQuery = predicate -> {
+            queried.add(predicate);
+            return Optional.empty();
+        };
+        assertEquals(Optional.empty(), cache.get("a", 1, emptyQuery));
+        assertEquals(Optional.empty(), cache.get("a", 1, emptyQuery));
+        assertEquals(1, queried.size());
+    }
+
+    @Test
+    public void get_result_unmodifiable() {
+        Function<String, Optional<List<String>>> mutableQuery = predicate -> Optional.of(new ArrayList<>());
+        assertThrows(UnsupportedOperationException.class, () -> cache.get("a", 1, mutableQuery).get().add("b"));
+    }
+}
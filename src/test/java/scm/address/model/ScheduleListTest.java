@@ -1,8 +1,14 @@
 package scm.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.TypicalSchedules.EXERCISE;
+import static scm.address.testutil.TypicalSchedules.MEETING;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +35,50 @@ public class ScheduleListTest {
         assertFalse(schedules.equals(addressBook));
     }
 
+    @Test
+    public void getVersion_modifySchedules_versionChanges() {
+        ScheduleList schedules = new ScheduleList();
+        long initialVersion = schedules.getVersion();
+        schedules.addSchedule(MEETING);
+        long afterAdd = schedules.getVersion();
+        assertNotEquals(initialVersion, afterAdd);
+
+        schedules.setSchedule(MEETING, EXERCISE);
+        long afterEdit = schedules.getVersion();
+        assertNotEquals(afterAdd, afterEdit);
+
+        schedules.removeSchedule(EXERCISE);
+        assertNotEquals(afterEdit, schedules.getVersion());
+    }
+
+    @Test
+    public void removeSchedule_absentSchedule_versionUnchanged() {
+        ScheduleList schedules = new ScheduleList();
+        schedules.addSchedule(MEETING);
+        long initialVersion = schedules.getVersion();
+        schedules.removeSchedule(EXERCISE);
+        assertEquals(initialVersion, schedules.getVersion());
+    }
+
+    @Test
+    public void addSchedules_appendsInOrderAndChangesVersion() {
+        ScheduleList schedules = new ScheduleList();
+        schedules.addSchedule(MEETING);
+        long initialVersion = schedules.getVersion();
+        schedules.addSchedules(Arrays.asList(EXERCISE, MEETING));
+        assertEquals(Arrays.asList(MEETING, EXERCISE, MEETING), schedules.getScheduleList());
+        assertNotEquals(initialVersion, schedules.getVersion());
+    }
+
+    @Test
+    public void addSchedules_empty_versionUnchanged() {
+        ScheduleList schedules = new ScheduleList();
+        schedules.addSchedule(MEETING);
+        long initialVersion = schedules.getVersion();
+        schedules.addSchedules(Collections.emptyList());
+        assertEquals(initialVersion, schedules.getVersion());
+    }
+
     @Test
     public void hashCodeTest() {
         ScheduleList schedules = new ScheduleList();
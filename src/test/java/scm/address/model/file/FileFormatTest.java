@@ -2,6 +2,7 @@ package scm.address.model.file;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -14,9 +15,13 @@ public class FileFormatTest {
 
     private static final String VALID_FILENAME_JSON = "hello.json";
     private static final String VALID_FILENAME_CSV = "hello.csv";
+    private static final String VALID_FILENAME_JSON_GZIP = "hello.json.gz";
+    private static final String VALID_FILENAME_CSV_GZIP = "hello.CSV.GZ";
     private static final String INVALID_FILENAME = "hello.xyz";
+    private static final String INVALID_FILENAME_GZIP = "hello.xyz.gz";
 
     private static final String NO_FILE_FORMAT_FILENAME = "hello";
+    private static final String NO_FILE_FORMAT_FILENAME_GZIP = "hello.gz";
 
     @Test
     public void test_getFileFormatJson_success() throws IllegalValueException {
@@ -30,6 +35,31 @@ public class FileFormatTest {
         assertEquals(FileFormat.CSV_FILE, FileFormat.getFileFormat(file));
     }
 
+    @Test
+    public void test_getFileFormatGzip_formatOfContent() throws IllegalValueException {
+        assertEquals(FileFormat.JSON_FILE, FileFormat.getFileFormat(new File(VALID_FILENAME_JSON_GZIP)));
+        assertEquals(FileFormat.CSV_FILE, FileFormat.getFileFormat(new File(VALID_FILENAME_CSV_GZIP)));
+    }
+
+    @Test
+    public void test_getFileFormatGzipInvalidFormat_failure() {
+        IllegalValueException unsupported = assertThrows(IllegalValueException.class, () ->
+                FileFormat.getFileFormat(new File(INVALID_FILENAME_GZIP)));
+        assertEquals(FileFormat.MESSAGE_UNSUPPORTED_FILE_FORMAT, unsupported.getMessage());
+
+        IllegalValueException invalid = assertThrows(IllegalValueException.class, () ->
+                FileFormat.getFileFormat(new File(NO_FILE_FORMAT_FILENAME_GZIP)));
+        assertEquals(FileFormat.MESSAGE_INVALID_FILE_FORMAT, invalid.getMessage());
+    }
+
+    @Test
+    public void test_isGzipCompressed() {
+        assertTrue(FileFormat.isGzipCompressed(new File(VALID_FILENAME_JSON_GZIP)));
+        assertTrue(FileFormat.isGzipCompressed(new File(VALID_FILENAME_CSV_GZIP)));
+        assertFalse(FileFormat.isGzipCompressed(new File(VALID_FILENAME_JSON)));
+        assertFalse(FileFormat.isGzipCompressed(new File(VALID_FILENAME_CSV)));
+    }
+
     @Test
     public void test_getFileFormatInvalidFormat_failure() {
         File file = new File(INVALID_FILENAME);
@@ -0,0 +1,143 @@
+package scm.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.Assert.assertThrows;
+import static scm.address.testutil.TypicalPersons.ALICE;
+import static scm.address.testutil.TypicalPersons.BENSON;
+import static scm.address.testutil.TypicalPersons.DANIEL;
+import static scm.address.testutil.TypicalPersons.HOON;
+import static scm.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import scm.address.testutil.PersonBuilder;
+
+public class PersonKeywordIndexTest {
+
+    private final List<Person> persons = new ArrayList<>();
+    private final PersonKeywordIndex index = new PersonKeywordIndex(persons);
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findByWord_personsAddedBeforeFirstLookup_findsPersons() {
+        persons.addAll(getTypicalPersons());
+        assertEquals(Set.of(BENSON, DANIEL), index.findByNameWord("Meier"));
+
+        // the index is kept up to date after the first lookup
+        addPerson(HOON);
+        assertEquals(Set.of(BENSON, DANIEL, HOON), index.findByNameWord("Meier"));
+    }
+
+    @Test
+    public void findBySubstring_differentCase_findsCandidates() {
+        getTypicalPersons().forEach(this::addPerson);
+        assertEquals(Optional.of(Set.of(BENSON, DANIEL)), index.findByNameSubstring("EIE"));
+        assertEquals(Optional.of(Set.of(ALICE, BENSON)), index.findByAddressSubstring("ave "));
+        assertEquals(Optional.of(Set.of()), index.findByNameSubstring("xyz"));
+    }
+
+    @Test
+    public void findBySubstring_shortSubstring_returnsEmptyOptional() {
+        addPerson(ALICE);
+        assertEquals(Optional.empty(), index.findByNameSubstring("al"));
+    }
+
+    @Test
+    public void clear_personsReplaced_indexedAgainOnLookup() {
+        addPerson(ALICE);
+        assertEquals(Set.of(ALICE), index.findByNameWord("alice"));
+        assertEquals(Optional.of(Set.of(ALICE)), index.findByNameSubstring("lic"));
+
+        persons.clear();
+        persons.add(BENSON);
+        index.clear();
+        assertTrue(index.findByNameWord("alice").isEmpty());
+        assertEquals(Optional.of(Set.of(BENSON)), index.findByAddressSubstring("clementi"));
+    }
+
+    @Test
+    public void findByWord_differentCase_findsPersons() {
+        getTypicalPersons().forEach(this::addPerson);
+        assertEquals(Set.of(BENSON, DANIEL), index.findByNameWord("mEIER"));
+        assertEquals(Set.of(BENSON), index.findByAddressWord("CLEMENTI"));
+        assertEquals(Set.of(BENSON), index.findByAnyTagIgnoreCase(List.of("owesmoney")));
+        assertEquals(Set.of(BENSON), index.findByTag("owesMoney"));
+        assertTrue(index.findByTag("owesmoney").isEmpty());
+    }
+
+    @Test
+    public void findByWord_partialWord_findsNothing() {
+        addPerson(ALICE);
+        assertTrue(index.findByNameWord("Alic").isEmpty());
+        assertTrue(index.findByAddressWord("123").isEmpty());
+        assertEquals(Set.of(ALICE), index.findByAddressWord("123,"));
+    }
+
+    @Test
+    public void remove_person_removedFromAllFields() {
+        addPerson(ALICE);
+        addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), index.findByAnyTagIgnoreCase(List.of("friends")));
+        assertEquals(Optional.of(Set.of(BENSON)), index.findByNameSubstring("benson"));
+
+        persons.remove(BENSON);
+        index.remove(BENSON);
+        assertEquals(Set.of(ALICE), index.findByAnyTagIgnoreCase(List.of("friends")));
+        assertEquals(Optional.of(Set.of()), index.findByNameSubstring("benson"));
+        assertTrue(index.findByNameWord("Benson").isEmpty());
+        assertTrue(index.findByAnyTagIgnoreCase(List.of("owesMoney")).isEmpty());
+    }
+
+    @Test
+    public void findCandidates_randomPersons_matchLinearScan() {
+        Random random = new Random(2103);
+        String[] words = {"alice", "Bob", "CHARLIE", "dave", "Eve", "street", "Ave", "clementi"};
+        for (int i = 0; i < 500; i++) {
+            Person person = new PersonBuilder().withName(randomWord(words, random) + " " + randomWord(words, random))
+                    .withPhone(String.valueOf(10000000 + i))
+                    .withAddress(randomWord(words, random) + " " + randomWord(words, random).toUpperCase())
+                    .withTags(randomWord(words, random)).build();
+            addPerson(person);
+        }
+
+        for (String word : words) {
+            List<String> keywords = List.of(word.toLowerCase(), randomWord(words, random));
+            assertFoundByIndex(new NameContainsKeywordsPredicate(keywords));
+            assertFoundByIndex(new AddressContainsKeywordsPredicate(keywords));
+            assertFoundByIndex(new TagsContainKeywordsPredicate(keywords));
+            assertFoundByIndex(new NameContainsKeywordsPredicate(keywords)
+                    .and(new TagsContainKeywordsPredicate(List.of(word))));
+            assertFoundByIndex(new NameContainsSubstringPredicate(word.substring(1) + " "));
+            assertFoundByIndex(new AddressContainsSubstringPredicate(word.substring(0, 3)));
+            assertFoundByIndex(new HasTagPredicate(word));
+        }
+    }
+
+    private void addPerson(Person person) {
+        persons.add(person);
+        index.add(person);
+    }
+
+    private void assertFoundByIndex(IndexedPersonPredicate predicate) {
+        Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+        Set<Person> actual = predicate.findCandidates(index).get().stream()
+                .filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, actual);
+    }
+
+    private static String randomWord(String[] words, Random random) {
+        return words[random.nextInt(words.length)];
+    }
+}
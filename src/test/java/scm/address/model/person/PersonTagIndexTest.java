@@ -0,0 +1,83 @@
+package scm.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.TypicalPersons.ALICE;
+import static scm.address.testutil.TypicalPersons.BENSON;
+import static scm.address.testutil.TypicalPersons.CARL;
+import static scm.address.testutil.TypicalPersons.DANIEL;
+import static scm.address.testutil.TypicalPersons.ELLE;
+import static scm.address.testutil.TypicalPersons.FIONA;
+import static scm.address.testutil.TypicalPersons.GEORGE;
+import static scm.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import scm.address.commons.util.CompressedBitmap;
+import scm.address.testutil.PersonBuilder;
+
+public class PersonTagIndexTest {
+
+    private final PersonTagIndex index = new PersonTagIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalPersons().forEach(index::add);
+    }
+
+    @Test
+    public void getSlotsWithTag_exactName_caseSensitive() {
+        assertEquals(Set.of(BENSON), index.getPersons(index.getSlotsWithTag("owesMoney")));
+        assertTrue(index.getPersons(index.getSlotsWithTag("owesmoney")).isEmpty());
+        assertTrue(index.getPersons(index.getSlotsWithTag("unknown")).isEmpty());
+    }
+
+    @Test
+    public void getSlotsWithAnyTagIgnoreCase_orOfTags() {
+        assertEquals(Set.of(BENSON, ELLE), index.getPersons(
+                index.getSlotsWithAnyTagIgnoreCase(List.of("OWESMONEY", "Relatives"))));
+    }
+
+    @Test
+    public void bitmapOperations_andOrNot_combineTags() {
+        CompressedBitmap friends = index.getSlotsWithTag("friends");
+        CompressedBitmap owesMoney = index.getSlotsWithTag("owesMoney");
+        assertEquals(Set.of(BENSON), index.getPersons(friends.and(owesMoney)));
+        assertEquals(Set.of(ALICE, DANIEL, FIONA), index.getPersons(friends.andNot(owesMoney)));
+        assertEquals(Set.of(CARL, GEORGE), index.getPersons(index.getAllSlots()
+                .andNot(friends.or(index.getSlotsWithTag("relatives")))));
+    }
+
+    @Test
+    public void getPersons_view_supportsContainsAndSize() {
+        Set<Person> friends = index.getPersons(index.getSlotsWithTag("friends"));
+        assertEquals(4, friends.size());
+        assertTrue(friends.contains(ALICE));
+        assertFalse(friends.contains(ELLE));
+        assertFalse(friends.contains("not a person"));
+    }
+
+    @Test
+    public void addRemove_editedPerson_bitmapsStayConsistent() {
+        Person editedBenson = new PersonBuilder(BENSON).withTags("relatives").build();
+        index.remove(BENSON);
+        index.add(editedBenson);
+        assertEquals(Set.of(ALICE, DANIEL, FIONA), index.getPersons(index.getSlotsWithTag("friends")));
+        assertEquals(Set.of(ELLE, editedBenson), index.getPersons(index.getSlotsWithTag("relatives")));
+        assertEquals(Map.of("friends", 3, "relatives", 2), index.getTagCounts());
+    }
+
+    @Test
+    public void getTagCounts_countsPersonsPerTag() {
+        assertEquals(Map.of("friends", 4, "owesMoney", 1, "relatives", 1), index.getTagCounts());
+        index.clear();
+        assertTrue(index.getTagCounts().isEmpty());
+        assertTrue(index.getAllSlots().isEmpty());
+    }
+}
@@ -1,7 +1,9 @@
 package scm.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static scm.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static scm.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,6 +14,8 @@ import static scm.address.testutil.Assert.assertThrows;
 import static scm.address.testutil.TypicalPersons.ALICE;
 import static scm.address.testutil.TypicalPersons.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import scm.address.testutil.PersonBuilder;
@@ -24,6 +28,20 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getSearchFields_returnsNormalisedFields() {
+        Person person = new PersonBuilder(ALICE).withTags("Friends", "owesMoney").build();
+        assertArrayEquals(new String[] {"alice", "pauline"}, person.getFoldedNameWords());
+        assertArrayEquals(new String[] {"123,", "jurong", "west", "ave", "6,", "#08-111"},
+                person.getFoldedAddressWords());
+        assertEquals(Set.of("friends", "owesmoney"), Set.of(person.getFoldedTagWords()));
+        assertEquals("alice pauline", person.getLowerCaseName());
+        assertEquals("123, jurong west ave 6, #08-111", person.getLowerCaseAddress());
+
+        // computed once
+        assertSame(person.getFoldedNameWords(), person.getFoldedNameWords());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
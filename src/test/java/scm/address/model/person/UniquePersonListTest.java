@@ -58,6 +58,32 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(ALICE, ALICE)));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_uniquePersons_appendsInOrder() {
+        uniquePersonList.add(ALICE);
+        Person amy = new PersonBuilder().build();
+        uniquePersonList.addAll(Arrays.asList(BOB, amy));
+        assertEquals(Arrays.asList(ALICE, BOB, amy), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -100,6 +126,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -125,6 +153,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -139,6 +168,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,6 +193,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsOwnList() {
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,119 @@
+package scm.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.TypicalSchedules.EXERCISE;
+import static scm.address.testutil.TypicalSchedules.MEETING;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import scm.address.testutil.ScheduleBuilder;
+
+public class ScheduleDayIndexTest {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2024, 3, 10);
+    private static final LocalDate EXERCISE_DATE = LocalDate.of(2024, 3, 11);
+
+    private final ObservableList<Schedule> schedules = FXCollections.observableArrayList(EXERCISE, MEETING);
+    private final ScheduleDayIndex index = new ScheduleDayIndex(schedules);
+
+    @Test
+    public void getSchedulesOn_existingSchedules_returnsSchedulesOfDay() {
+        assertEquals(Collections.singletonList(MEETING), index.getSchedulesOn(MEETING_DATE));
+        assertEquals(Collections.singletonList(EXERCISE), index.getSchedulesOn(EXERCISE_DATE));
+        assertTrue(index.getSchedulesOn(MEETING_DATE.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void getSchedulesOn_multiDaySchedule_returnsScheduleOnEveryDay() {
+        Schedule trip = new ScheduleBuilder().withTitle("Trip").withStartDateTime("2024-03-09 20:00")
+                .withEndDateTime("2024-03-11 08:00").build();
+        schedules.add(trip);
+        assertEquals(Collections.singletonList(trip), index.getSchedulesOn(MEETING_DATE.minusDays(1)));
+        assertEquals(Arrays.asList(trip, MEETING), index.getSchedulesOn(MEETING_DATE));
+        assertEquals(Arrays.asList(trip, EXERCISE), index.getSchedulesOn(EXERCISE_DATE));
+    }
+
+    @Test
+    public void getSchedulesOn_multiYearSchedule_returnsScheduleOnDaysWithinIt() {
+        Schedule secondment = new ScheduleBuilder().withTitle("Secondment").withStartDateTime("2020-01-01 09:00")
+                .withEndDateTime("2030-01-01 00:00").build();
+        schedules.add(secondment);
+        assertEquals(Arrays.asList(secondment, MEETING), index.getSchedulesOn(MEETING_DATE));
+        assertEquals(Collections.singletonList(secondment), index.getSchedulesOn(LocalDate.of(2029, 12, 31)));
+        assertTrue(index.getSchedulesOn(LocalDate.of(2030, 1, 1)).isEmpty());
+        assertTrue(index.getSchedulesOn(LocalDate.of(2019, 12, 31)).isEmpty());
+
+        schedules.remove(secondment);
+        assertEquals(Collections.singletonList(MEETING), index.getSchedulesOn(MEETING_DATE));
+    }
+
+    @Test
+    public void addDaysChangedListener_listChanges_notifiesChangedDays() {
+        List<List<LocalDate>> notifications = new ArrayList<>();
+        index.addDaysChangedListener(isChangedDay -> notifications.add(
+                MEETING_DATE.minusDays(1).datesUntil(MEETING_DATE.plusDays(4)).filter(isChangedDay)
+                        .collect(Collectors.toList())));
+        Schedule movedMeeting = new ScheduleBuilder(MEETING).withStartDateTime("2024-03-12 16:00")
+                .withEndDateTime("2024-03-12 17:00").build();
+        schedules.set(1, movedMeeting);
+        assertEquals(Collections.singletonList(List.of(MEETING_DATE, MEETING_DATE.plusDays(2))), notifications);
+
+        // reordering the schedules does not change any day
+        FXCollections.sort(schedules, Comparator.comparing(Schedule::getStartDateTime));
+        assertEquals(1, notifications.size());
+
+        // overlapping and adjacent day ranges of a single change are merged
+        schedules.addAll(new ScheduleBuilder().withStartDateTime("2024-03-10 08:00")
+                        .withEndDateTime("2024-03-11 09:00").build(),
+                new ScheduleBuilder().withStartDateTime("2024-03-09 08:00")
+                        .withEndDateTime("2024-03-10 09:00").build(),
+                new ScheduleBuilder().withStartDateTime("2024-03-12 08:00")
+                        .withEndDateTime("2024-03-12 09:00").build());
+        assertEquals(List.of(MEETING_DATE.minusDays(1), MEETING_DATE, MEETING_DATE.plusDays(1),
+                MEETING_DATE.plusDays(2)), notifications.get(1));
+    }
+
+    @Test
+    public void takesPlaceOn_scheduleEndingAtMidnight_excludesEndDate() {
+        Schedule lateShift = new ScheduleBuilder().withStartDateTime("2024-03-10 22:00")
+                .withEndDateTime("2024-03-11 00:00").build();
+        assertTrue(ScheduleDayIndex.takesPlaceOn(lateShift, MEETING_DATE));
+        assertFalse(ScheduleDayIndex.takesPlaceOn(lateShift, EXERCISE_DATE));
+    }
+
+    @Test
+    public void getSchedulesOn_scheduleEndingBeforeItStarts_returnsScheduleOnStartDate() {
+        Schedule reversed = new ScheduleBuilder().withStartDateTime("2024-03-11 10:00")
+                .withEndDateTime("2024-03-10 09:00").build();
+        schedules.add(reversed);
+        assertEquals(Collections.singletonList(MEETING), index.getSchedulesOn(MEETING_DATE));
+        assertEquals(Arrays.asList(reversed, EXERCISE), index.getSchedulesOn(EXERCISE_DATE));
+    }
+
+    @Test
+    public void listChanges_updateIndex() {
+        schedules.remove(MEETING);
+        assertTrue(index.getSchedulesOn(MEETING_DATE).isEmpty());
+
+        Schedule movedExercise = new ScheduleBuilder(EXERCISE).withStartDateTime("2024-03-10 08:00")
+                .withEndDateTime("2024-03-10 09:00").build();
+        schedules.set(0, movedExercise);
+        assertEquals(Collections.singletonList(movedExercise), index.getSchedulesOn(MEETING_DATE));
+        assertTrue(index.getSchedulesOn(EXERCISE_DATE).isEmpty());
+
+        schedules.setAll(MEETING);
+        assertEquals(Collections.singletonList(MEETING), index.getSchedulesOn(MEETING_DATE));
+    }
+}
@@ -0,0 +1,147 @@
+package scm.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.Assert.assertThrows;
+import static scm.address.testutil.TypicalSchedules.EXERCISE;
+import static scm.address.testutil.TypicalSchedules.MEETING;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class ScheduleIntervalIndexTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+
+    @Test
+    public void add_nullSchedule_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findOngoingAt_boundaries_inclusive() {
+        index.add(MEETING);
+        assertEquals(Collections.singletonList(MEETING), index.findOngoingAt(MEETING.getStartDateTime()));
+        assertEquals(Collections.singletonList(MEETING), index.findOngoingAt(MEETING.getEndDateTime()));
+        assertTrue(index.findOngoingAt(MEETING.getEndDateTime().plusMinutes(1)).isEmpty());
+        assertTrue(index.findOngoingAt(MEETING.getStartDateTime().minusMinutes(1)).isEmpty());
+    }
+
+    @Test
+    public void findStartingAfter_returnsSchedulesInStartOrder() {
+        index.add(EXERCISE);
+        index.add(MEETING);
+        assertEquals(Arrays.asList(MEETING, EXERCISE), index.findStartingAfter(MEETING.getStartDateTime()));
+        assertEquals(Collections.singletonList(EXERCISE), index.findStartingAfter(MEETING.getEndDateTime()));
+    }
+
+    @Test
+    public void findEndingBefore_returnsSchedulesInEndOrder() {
+        index.add(EXERCISE);
+        index.add(MEETING);
+        assertEquals(Arrays.asList(MEETING, EXERCISE), index.findEndingBefore(EXERCISE.getEndDateTime()));
+        assertEquals(Collections.singletonList(MEETING), index.findEndingBefore(EXERCISE.getStartDateTime()));
+    }
+
+    @Test
+    public void findOverlapping_returnsSchedulesInStartOrder() {
+        index.add(EXERCISE);
+        index.add(MEETING);
+        assertEquals(Arrays.asList(MEETING, EXERCISE),
+                index.findOverlapping(MEETING.getEndDateTime(), EXERCISE.getEndDateTime()));
+        assertEquals(Collections.singletonList(EXERCISE),
+                index.findOverlapping(MEETING.getEndDateTime().plusMinutes(1), EXERCISE.getEndDateTime()));
+        assertTrue(index.findOverlapping(MEETING.getEndDateTime().plusMinutes(1), EXERCISE.getStartDateTime())
+                .isEmpty());
+    }
+
+    @Test
+    public void remove_scheduleAddedTwice_removesOneInstance() {
+        index.add(MEETING);
+        index.add(MEETING);
+        assertTrue(index.remove(MEETING));
+        assertEquals(1, index.size());
+        assertEquals(Collections.singletonList(MEETING), index.findOngoingAt(MEETING.getStartDateTime()));
+        assertTrue(index.remove(MEETING));
+        assertFalse(index.remove(MEETING));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void remove_equalScheduleNotAdded_returnsFalse() {
+        index.add(MEETING);
+        Schedule copy = new Schedule(MEETING.getTitle(), MEETING.getDescription(), MEETING.getStartDateTime(),
+                MEETING.getEndDateTime());
+        assertFalse(index.remove(copy));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void queries_randomAddsAndRemoves_matchLinearScan() {
+        Random random = new Random(2103);
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!schedules.isEmpty() && random.nextInt(3) == 0) {
+                Schedule removed = schedules.remove(random.nextInt(schedules.size()));
+                assertTrue(index.remove(removed));
+            } else {
+                Schedule added = createSchedule(i, random.nextInt(500), random.nextInt(50));
+                schedules.add(added);
+                index.add(added);
+            }
+        }
+        assertEquals(schedules.size(), index.size());
+
+        for (int minutes = -10; minutes < 600; minutes += 7) {
+            LocalDateTime dateTime = BASE_DATE_TIME.plusMinutes(minutes);
+            Optional<LocalDateTime> query = Optional.of(dateTime);
+            assertSameSchedules(filter(schedules, new DuringDateTimePredicate(query)),
+                    index.findOngoingAt(dateTime));
+            assertSameSchedules(filter(schedules, new AfterDateTimePredicate(query)),
+                    index.findStartingAfter(dateTime));
+            assertSameSchedules(filter(schedules, new BeforeDateTimePredicate(query)),
+                    index.findEndingBefore(dateTime));
+            LocalDateTime to = dateTime.plusMinutes(30);
+            assertSameSchedules(filter(schedules, schedule -> schedule.getStartDateTime().isBefore(to)
+                    && !schedule.getEndDateTime().isBefore(dateTime)), index.findOverlapping(dateTime, to));
+        }
+    }
+
+    @Test
+    public void clear_removesAllSchedules() {
+        index.add(MEETING);
+        index.add(EXERCISE);
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.findStartingAfter(LocalDateTime.MIN).isEmpty());
+        assertTrue(index.findEndingBefore(LocalDateTime.MAX).isEmpty());
+    }
+
+    private static Schedule createSchedule(int id, int startMinutes, int durationMinutes) {
+        LocalDateTime start = BASE_DATE_TIME.plusMinutes(startMinutes);
+        return new Schedule(new Title("Schedule " + id), new Description("Description " + id), start,
+                start.plusMinutes(durationMinutes));
+    }
+
+    private static List<Schedule> filter(List<Schedule> schedules, Predicate<Schedule> predicate) {
+        return schedules.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private static void assertSameSchedules(List<Schedule> expected, List<Schedule> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
+}
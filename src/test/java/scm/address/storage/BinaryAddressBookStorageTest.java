@@ -0,0 +1,154 @@
+package scm.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static scm.address.testutil.Assert.assertThrows;
+import static scm.address.testutil.TypicalPersons.ALICE;
+import static scm.address.testutil.TypicalPersons.HOON;
+import static scm.address.testutil.TypicalPersons.IDA;
+import static scm.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.util.FileUtil;
+import scm.address.model.AddressBook;
+import scm.address.model.ReadOnlyAddressBook;
+import scm.address.model.ScheduleList;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook());
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void read_corruptedPayload_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("CorruptedAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void read_wrongKindOfFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ScheduleList.bin");
+        new BinaryScheduleStorage(filePath).saveScheduleList(new ScheduleList());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("NewerAddressBook.bin");
+        FileUtil.writeToFile(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(BinaryAddressBookStorage.MAGIC);
+            output.writeInt(BinaryDataFile.FORMAT_VERSION + 1);
+            output.writeInt(0);
+            output.writeInt(0);
+            output.writeLong(0);
+            output.flush();
+        });
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_invalidPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("InvalidPersonAddressBook.bin");
+        BinaryDataFile.write(filePath, BinaryAddressBookStorage.MAGIC, List.of("Hans"), (name, output) -> {
+            BinaryDataFile.writeString(output, name);
+            BinaryDataFile.writeString(output, "not a phone");
+            BinaryDataFile.writeString(output, "hans@example.com");
+            BinaryDataFile.writeString(output, "4th street");
+            output.writeInt(0);
+        });
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("DuplicatePersonsAddressBook.bin");
+        // Writes the same person twice, which the model never allows
+        BinaryDataFile.write(filePath, BinaryAddressBookStorage.MAGIC, List.of(ALICE, ALICE), (person, output) -> {
+            BinaryDataFile.writeString(output, person.getName().fullName);
+            BinaryDataFile.writeString(output, person.getPhone().value);
+            BinaryDataFile.writeString(output, person.getEmail().value);
+            BinaryDataFile.writeString(output, person.getAddress().value);
+            output.writeInt(0);
+        });
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null)
+                .saveAddressBook(new AddressBook(), null));
+    }
+}
@@ -0,0 +1,99 @@
+package scm.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static scm.address.testutil.Assert.assertThrows;
+import static scm.address.testutil.TypicalSchedules.MEETING;
+import static scm.address.testutil.TypicalSchedules.getTypicalScheduleList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.model.ScheduleList;
+import scm.address.model.schedule.Schedule;
+import scm.address.testutil.ScheduleBuilder;
+
+public class BinaryScheduleStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readScheduleList_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryScheduleStorage(null).readScheduleList());
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("nonExistentFile.bin");
+        assertFalse(new BinaryScheduleStorage(filePath).readScheduleList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveScheduleList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempScheduleList.bin");
+        BinaryScheduleStorage storage = new BinaryScheduleStorage(filePath);
+        ScheduleList original = getTypicalScheduleList();
+
+        storage.saveScheduleList(original);
+        assertEquals(original, storage.readScheduleList().get());
+
+        original.removeSchedule(MEETING);
+        storage.saveScheduleList(original, filePath);
+        assertEquals(original, storage.readScheduleList(filePath).get());
+    }
+
+    @Test
+    public void readAndSaveScheduleList_datetimesBeforeEpoch_success() throws Exception {
+        Path filePath = testFolder.resolve("OldScheduleList.bin");
+        BinaryScheduleStorage storage = new BinaryScheduleStorage(filePath);
+        Schedule oldSchedule = new ScheduleBuilder().withStartDateTime("1965-08-09 10:01")
+                .withEndDateTime("1965-08-09 23:59").build();
+        ScheduleList original = new ScheduleList();
+        original.addSchedule(oldSchedule);
+
+        storage.saveScheduleList(original);
+        assertEquals(original, storage.readScheduleList().get());
+    }
+
+    @Test
+    public void read_corruptedPayload_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("CorruptedScheduleList.bin");
+        BinaryScheduleStorage storage = new BinaryScheduleStorage(filePath);
+        storage.saveScheduleList(getTypicalScheduleList());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryDataFile.HEADER_SIZE] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> storage.readScheduleList());
+    }
+
+    @Test
+    public void read_invalidSchedule_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("InvalidScheduleList.bin");
+        BinaryDataFile.write(filePath, BinaryScheduleStorage.MAGIC, List.of(" invalid title"), (title, output) -> {
+            BinaryDataFile.writeString(output, title);
+            BinaryDataFile.writeString(output, "description");
+            output.writeLong(0);
+            output.writeLong(60);
+        });
+        assertThrows(DataLoadingException.class, () -> new BinaryScheduleStorage(filePath).readScheduleList());
+    }
+
+    @Test
+    public void read_datetimeOutOfRange_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("OutOfRangeScheduleList.bin");
+        BinaryDataFile.write(filePath, BinaryScheduleStorage.MAGIC, List.of("Title"), (title, output) -> {
+            BinaryDataFile.writeString(output, title);
+            BinaryDataFile.writeString(output, "description");
+            output.writeLong(Long.MAX_VALUE);
+            output.writeLong(0);
+        });
+        assertThrows(DataLoadingException.class, () -> new BinaryScheduleStorage(filePath).readScheduleList());
+    }
+}
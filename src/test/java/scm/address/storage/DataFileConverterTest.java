@@ -0,0 +1,136 @@
+package scm.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.Assert.assertThrows;
+import static scm.address.testutil.TypicalPersons.ALICE;
+import static scm.address.testutil.TypicalPersons.HOON;
+import static scm.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static scm.address.testutil.TypicalSchedules.getTypicalScheduleList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import scm.address.commons.core.DataFileFormat;
+import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.util.FileUtil;
+import scm.address.model.AddressBook;
+import scm.address.model.ScheduleList;
+import scm.address.model.person.Person;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createAddressBookStorage_eachFormat_storageOfFormat() {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBookStorage jsonStorage = DataFileConverter.createAddressBookStorage(jsonFilePath,
+                DataFileFormat.JSON, true);
+        AddressBookStorage binaryStorage = DataFileConverter.createAddressBookStorage(jsonFilePath,
+                DataFileFormat.BINARY, true);
+
+        assertTrue(jsonStorage instanceof JsonAddressBookStorage);
+        assertEquals(jsonFilePath, jsonStorage.getAddressBookFilePath());
+        assertTrue(binaryStorage instanceof BinaryAddressBookStorage);
+        assertEquals(testFolder.resolve("addressbook.bin"), binaryStorage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void createScheduleStorage_eachFormat_storageOfFormat() {
+        Path jsonFilePath = testFolder.resolve("schedulelist.json");
+        ScheduleStorage jsonStorage = DataFileConverter.createScheduleStorage(jsonFilePath,
+                DataFileFormat.JSON, false);
+        ScheduleStorage binaryStorage = DataFileConverter.createScheduleStorage(jsonFilePath,
+                DataFileFormat.BINARY, false);
+
+        assertTrue(jsonStorage instanceof JsonScheduleStorage);
+        assertEquals(jsonFilePath, jsonStorage.getScheduleStorageFilePath());
+        assertTrue(binaryStorage instanceof BinaryScheduleStorage);
+        assertEquals(testFolder.resolve("schedulelist.bin"), binaryStorage.getScheduleStorageFilePath());
+    }
+
+    @Test
+    public void convertAddressBook_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(DataFileConverter.convertAddressBook(jsonStorage, binaryStorage));
+        assertEquals(original, binaryStorage.readAddressBook().get());
+
+        // The binary file is now up to date
+        assertFalse(DataFileConverter.convertAddressBook(jsonStorage, binaryStorage));
+
+        // Changes saved to the binary file are converted back to the older JSON file
+        original.removePerson(ALICE);
+        binaryStorage.saveAddressBook(original);
+        setLastModifiedLater(binaryStorage.getAddressBookFilePath(), jsonStorage.getAddressBookFilePath());
+        assertTrue(DataFileConverter.convertAddressBook(binaryStorage, jsonStorage));
+        assertEquals(original, jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertAddressBook_missingSource_notConverted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+
+        assertFalse(DataFileConverter.convertAddressBook(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertAddressBook_sourceWithJournal_journalIncluded() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        ListChangeJournal<Person> journal = new ListChangeJournal<>(
+                ListChangeJournal.getJournalFilePath(jsonFilePath), jsonFilePath,
+                JsonAdaptedPersonListChange::new, JsonAdaptedPersonListChange.class);
+        journal.reset();
+        journal.attach(original.getPersonList());
+        original.addPerson(HOON);
+        journal.append(journal.takeUnsavedChanges());
+
+        assertTrue(DataFileConverter.convertAddressBook(jsonStorage, binaryStorage));
+        assertEquals(original, binaryStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertAddressBook_invalidSource_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(jsonFilePath, "not json");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+
+        assertThrows(DataLoadingException.class, () -> DataFileConverter.convertAddressBook(
+                new JsonAddressBookStorage(jsonFilePath), binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertScheduleList_jsonToBinary_sameScheduleList() throws Exception {
+        JsonScheduleStorage jsonStorage = new JsonScheduleStorage(testFolder.resolve("schedulelist.json"));
+        BinaryScheduleStorage binaryStorage = new BinaryScheduleStorage(testFolder.resolve("schedulelist.bin"));
+        ScheduleList original = getTypicalScheduleList();
+        jsonStorage.saveScheduleList(original);
+
+        assertTrue(DataFileConverter.convertScheduleList(jsonStorage, binaryStorage));
+        assertEquals(original, binaryStorage.readScheduleList().get());
+        assertFalse(DataFileConverter.convertScheduleList(jsonStorage, binaryStorage));
+    }
+
+    private static void setLastModifiedLater(Path file, Path otherFile) throws Exception {
+        FileTime otherLastModified = Files.getLastModifiedTime(otherFile);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(otherLastModified.toMillis() + 1000));
+    }
+}
@@ -2,6 +2,7 @@ package scm.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static scm.address.testutil.Assert.assertThrows;
 import static scm.address.testutil.TypicalPersons.ALICE;
 import static scm.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static scm.address.testutil.TypicalPersons.IDA;
 import static scm.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.util.FileUtil;
+import scm.address.commons.util.JsonUtil;
 import scm.address.model.AddressBook;
 import scm.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,32 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("PrettyAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_compact_smallerAndReadBack() throws Exception {
+        Path prettyFilePath = testFolder.resolve("PrettyAddressBook.json");
+        Path compactFilePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(prettyFilePath).saveAddressBook(original);
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(compactFilePath, false);
+        compactStorage.saveAddressBook(original);
+
+        String compactJson = FileUtil.readFromFile(compactFilePath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)), compactJson);
+        assertFalse(compactJson.contains("\n"));
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
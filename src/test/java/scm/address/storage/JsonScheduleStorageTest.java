@@ -12,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import scm.address.commons.exceptions.DataLoadingException;
+import scm.address.commons.util.FileUtil;
+import scm.address.commons.util.JsonUtil;
 
 public class JsonScheduleStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonScheduleStorageTest");
@@ -63,4 +65,15 @@ public class JsonScheduleStorageTest {
         storage.saveScheduleList(getTypicalScheduleList());
         assertEquals(storage, storage);
     }
+
+    @Test
+    public void save_compactTypicalScheduleList_readBack() throws Exception {
+        Path filePath = testFolder.resolve("CompactScheduleList.json");
+        JsonScheduleStorage storage = new JsonScheduleStorage(filePath, false);
+        storage.saveScheduleList(getTypicalScheduleList());
+
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableScheduleList(getTypicalScheduleList())),
+                FileUtil.readFromFile(filePath));
+        assertEquals(getTypicalScheduleList(), storage.readScheduleList().get());
+    }
 }
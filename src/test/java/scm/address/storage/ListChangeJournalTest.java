@@ -0,0 +1,144 @@
+package scm.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scm.address.testutil.TypicalPersons.ALICE;
+import static scm.address.testutil.TypicalPersons.BENSON;
+import static scm.address.testutil.TypicalPersons.CARL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import scm.address.model.person.Person;
+
+public class ListChangeJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path snapshotFilePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        snapshotFilePath = testFolder.resolve("snapshot.json");
+        journalFilePath = ListChangeJournal.getJournalFilePath(snapshotFilePath);
+        Files.writeString(snapshotFilePath, "snapshot");
+    }
+
+    private ListChangeJournal<Person> createJournal() {
+        return new ListChangeJournal<>(journalFilePath, snapshotFilePath, JsonAdaptedPersonListChange::new,
+                JsonAdaptedPersonListChange.class);
+    }
+
+    @Test
+    public void getJournalFilePath_nextToSnapshot() {
+        assertEquals(testFolder.resolve("snapshot.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void takeUnsavedChanges_attachedListModified_changesRecordedInOrder() {
+        ListChangeJournal<Person> journal = createJournal();
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+        journal.attach(persons);
+
+        persons.add(BENSON);
+        persons.set(0, CARL);
+        persons.remove(BENSON);
+
+        List<ListChange<Person>> expected = List.of(new ListChange<>(1, 0, List.of(BENSON)),
+                new ListChange<>(0, 1, List.of(CARL)), new ListChange<>(1, 1, List.of()));
+        assertEquals(expected, journal.takeUnsavedChanges());
+        assertTrue(journal.takeUnsavedChanges().isEmpty());
+    }
+
+    @Test
+    public void replayOnto_appendedChanges_restoresList() throws Exception {
+        ListChangeJournal<Person> journal = createJournal();
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+        journal.attach(persons);
+        journal.reset();
+
+        persons.add(BENSON);
+        persons.set(0, CARL);
+        journal.append(journal.takeUnsavedChanges());
+        persons.remove(BENSON);
+        journal.append(journal.takeUnsavedChanges());
+
+        List<Person> replayed = new ArrayList<>(List.of(ALICE));
+        ListChangeJournal<Person> reopenedJournal = createJournal();
+        reopenedJournal.replayOnto(replayed);
+        assertEquals(persons, replayed);
+        assertTrue(reopenedJournal.canAppend(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void replayOnto_snapshotRewrittenAfterReset_journalIgnored() throws Exception {
+        ListChangeJournal<Person> journal = createJournal();
+        journal.reset();
+        journal.append(List.of(new ListChange<>(0, 0, List.of(BENSON))));
+        Files.writeString(snapshotFilePath, "a newer snapshot");
+
+        List<Person> replayed = new ArrayList<>(List.of(ALICE));
+        ListChangeJournal<Person> reopenedJournal = createJournal();
+        reopenedJournal.replayOnto(replayed);
+        assertEquals(List.of(ALICE), replayed);
+        assertFalse(reopenedJournal.canAppend(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void replayOnto_truncatedRecord_replaysCompleteRecords() throws Exception {
+        ListChangeJournal<Person> journal = createJournal();
+        journal.reset();
+        journal.append(List.of(new ListChange<>(1, 0, List.of(BENSON))));
+        Files.writeString(journalFilePath, "{\"from\":0,\"remo", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        List<Person> replayed = new ArrayList<>(List.of(ALICE));
+        ListChangeJournal<Person> reopenedJournal = createJournal();
+        reopenedJournal.replayOnto(replayed);
+        assertEquals(List.of(ALICE, BENSON), replayed);
+        assertFalse(reopenedJournal.canAppend(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void replayOnto_recordOutOfRange_stopsReplaying() throws Exception {
+        ListChangeJournal<Person> journal = createJournal();
+        journal.reset();
+        journal.append(List.of(new ListChange<>(5, 1, List.of(BENSON))));
+
+        List<Person> replayed = new ArrayList<>(List.of(ALICE));
+        createJournal().replayOnto(replayed);
+        assertEquals(List.of(ALICE), replayed);
+    }
+
+    @Test
+    public void replayOnto_missingJournal_listUnchanged() {
+        List<Person> replayed = new ArrayList<>(List.of(ALICE));
+        ListChangeJournal<Person> journal = createJournal();
+        journal.replayOnto(replayed);
+        assertEquals(List.of(ALICE), replayed);
+        assertFalse(journal.canAppend(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void canAppend_pastThreshold_returnsFalse() throws Exception {
+        ListChangeJournal<Person> journal = createJournal();
+        journal.reset();
+        assertTrue(journal.canAppend(Long.MAX_VALUE));
+        assertFalse(journal.canAppend(Files.size(journalFilePath)));
+
+        journal.invalidate();
+        assertFalse(journal.canAppend(Long.MAX_VALUE));
+    }
+}
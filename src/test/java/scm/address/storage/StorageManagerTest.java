@@ -1,23 +1,39 @@
 package scm.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static scm.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static scm.address.testutil.TypicalSchedules.getTypicalScheduleList;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import scm.address.commons.core.Config;
 import scm.address.commons.core.GuiSettings;
 import scm.address.model.AddressBook;
 import scm.address.model.ReadOnlyAddressBook;
 import scm.address.model.ReadOnlyScheduleList;
 import scm.address.model.ScheduleList;
 import scm.address.model.UserPrefs;
+import scm.address.model.person.Person;
 import scm.address.model.theme.ThemeCollection;
+import scm.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -65,6 +81,228 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_skipsWrite() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.addPerson(new PersonBuilder().withName("Unsaved Person").build());
+        storageManager.saveAddressBook(original);
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_differentInstanceOrPath_writes() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(new AddressBook(original));
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+
+        Path otherPath = getTempFilePath("otherAb");
+        storageManager.saveAddressBook(original, otherPath);
+        assertTrue(Files.exists(otherPath));
+    }
+
+    @Test
+    public void saveScheduleList_unchangedSinceLastSave_skipsWrite() throws Exception {
+        ScheduleList original = getTypicalScheduleList();
+        storageManager.saveScheduleList(original);
+        Files.delete(storageManager.getScheduleStorageFilePath());
+
+        storageManager.saveScheduleList(original);
+        assertFalse(Files.exists(storageManager.getScheduleStorageFilePath()));
+
+        original.removeSchedule(original.getScheduleList().get(0));
+        storageManager.saveScheduleList(original);
+        assertTrue(Files.exists(storageManager.getScheduleStorageFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehind_writtenAfterFlush() throws Exception {
+        StorageManager writeBehindStorage = createWriteBehindStorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")));
+        AddressBook original = getTypicalAddressBook();
+        ScheduleList originalSchedules = getTypicalScheduleList();
+        writeBehindStorage.saveAddressBook(original);
+        writeBehindStorage.saveScheduleList(originalSchedules);
+        writeBehindStorage.flush();
+
+        assertEquals(original, new AddressBook(writeBehindStorage.readAddressBook().get()));
+        assertEquals(originalSchedules, new ScheduleList(writeBehindStorage.readScheduleList().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindBurst_coalescesWrites() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeCount.incrementAndGet();
+                firstWriteStarted.countDown();
+                try {
+                    releaseWriter.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager writeBehindStorage = createWriteBehindStorageManager(blockingStorage);
+
+        AddressBook addressBook = new AddressBook();
+        writeBehindStorage.saveAddressBook(addressBook);
+        firstWriteStarted.await();
+        for (String name : new String[] {"First Person", "Second Person", "Third Person"}) {
+            addressBook.addPerson(new PersonBuilder().withName(name).build());
+            writeBehindStorage.saveAddressBook(addressBook);
+        }
+        releaseWriter.countDown();
+        writeBehindStorage.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(addressBook, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFailure_reportedToHandler() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager writeBehindStorage = createWriteBehindStorageManager(failingStorage);
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+        writeBehindStorage.setSaveFailureHandler(reportedFailures::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(addressBook);
+        writeBehindStorage.flush();
+        assertEquals(List.of(failure), reportedFailures);
+
+        // unchanged data is written again after a failed save
+        writeBehindStorage.saveAddressBook(addressBook);
+        writeBehindStorage.flush();
+        assertEquals(List.of(failure, failure), reportedFailures);
+    }
+
+    private StorageManager createWriteBehindStorageManager(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonScheduleStorage(getTempFilePath("schedules")), getWriteBehindConfig());
+    }
+
+    private Config getWriteBehindConfig() {
+        Config config = new Config();
+        config.setWriteBehindSaveEnabled(true);
+        config.setJournalEnabled(false);
+        return config;
+    }
+
+    private StorageManager createJournalingStorageManager(long compactionThreshold) {
+        Config config = new Config();
+        config.setWriteBehindSaveEnabled(false);
+        config.setJournalCompactionThreshold(compactionThreshold);
+        return new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonScheduleStorage(getTempFilePath("schedules")), config);
+    }
+
+    @Test
+    public void saveAddressBook_journaled_appendsChangesAndReplays() throws Exception {
+        StorageManager journalingStorage = createJournalingStorageManager(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        journalingStorage.saveAddressBook(addressBook);
+        journalingStorage.attachJournals(addressBook, new ScheduleList());
+
+        // the first save after attaching writes the data file in full and starts the journal
+        addressBook.addPerson(new PersonBuilder().withName("Snapshot Person").build());
+        journalingStorage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(journalingStorage.getAddressBookFilePath());
+
+        addressBook.addPerson(new PersonBuilder().withName("Journaled Person").build());
+        journalingStorage.saveAddressBook(addressBook);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        journalingStorage.saveAddressBook(addressBook);
+
+        // the data file is left untouched and the changes are in the journal
+        assertEquals(snapshot, Files.readString(journalingStorage.getAddressBookFilePath()));
+        assertTrue(Files.exists(ListChangeJournal.getJournalFilePath(journalingStorage.getAddressBookFilePath())));
+
+        StorageManager reloadedStorage = createJournalingStorageManager(Long.MAX_VALUE);
+        ReadOnlyAddressBook reloaded = reloadedStorage.replayAddressBookJournal(
+                reloadedStorage.readAddressBook().get());
+        assertEquals(addressBook, new AddressBook(reloaded));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoDataFile() throws Exception {
+        StorageManager journalingStorage = createJournalingStorageManager(1);
+        AddressBook addressBook = getTypicalAddressBook();
+        journalingStorage.saveAddressBook(addressBook);
+        journalingStorage.attachJournals(addressBook, new ScheduleList());
+
+        addressBook.addPerson(new PersonBuilder().withName("Compacted Person").build());
+        journalingStorage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(journalingStorage.readAddressBook().get()));
+        StorageManager reloadedStorage = createJournalingStorageManager(1);
+        assertEquals(addressBook, new AddressBook(reloadedStorage.replayAddressBookJournal(
+                reloadedStorage.readAddressBook().get())));
+    }
+
+    @Test
+    public void saveAddressBook_journaledWriteBehind_personsNotCopied() throws Exception {
+        Config config = new Config();
+        config.setWriteBehindSaveEnabled(true);
+        config.setJournalCompactionThreshold(Long.MAX_VALUE);
+        StorageManager journalingStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonScheduleStorage(getTempFilePath("schedules")), config);
+        CopyCountingAddressBook addressBook = new CopyCountingAddressBook(getTypicalAddressBook().getPersonList());
+        journalingStorage.attachJournals(addressBook, new ScheduleList());
+
+        // the first save after attaching writes the data file in full and starts the journal
+        addressBook.addPerson(new PersonBuilder().withName("Snapshot Person").build());
+        journalingStorage.saveAddressBook(addressBook);
+        journalingStorage.flush();
+        int copyCount = addressBook.persons.copyCount;
+
+        addressBook.addPerson(new PersonBuilder().withName("Journaled Person").build());
+        journalingStorage.saveAddressBook(addressBook);
+        journalingStorage.flush();
+
+        assertEquals(copyCount, addressBook.persons.copyCount);
+        StorageManager reloadedStorage = createJournalingStorageManager(Long.MAX_VALUE);
+        assertEquals(new AddressBook(addressBook), new AddressBook(reloadedStorage.replayAddressBookJournal(
+                reloadedStorage.readAddressBook().get())));
+    }
+
+    @Test
+    public void saveScheduleList_journaled_appendsChangesAndReplays() throws Exception {
+        StorageManager journalingStorage = createJournalingStorageManager(Long.MAX_VALUE);
+        ScheduleList scheduleList = getTypicalScheduleList();
+        journalingStorage.saveScheduleList(scheduleList);
+        journalingStorage.attachJournals(new AddressBook(), scheduleList);
+
+        scheduleList.removeSchedule(scheduleList.getScheduleList().get(1));
+        journalingStorage.saveScheduleList(scheduleList);
+
+        StorageManager reloadedStorage = createJournalingStorageManager(Long.MAX_VALUE);
+        ReadOnlyScheduleList reloaded = reloadedStorage.replayScheduleListJournal(
+                reloadedStorage.readScheduleList().get());
+        assertEquals(scheduleList, new ScheduleList(reloaded));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -83,4 +321,76 @@ public class StorageManagerTest {
         assertEquals(original, new ScheduleList(retrieved));
     }
 
+
+    /**
+     * An address book whose persons list counts how many times it has been copied.
+     */
+    private static class CopyCountingAddressBook implements ReadOnlyAddressBook {
+        private final CopyCountingList<Person> persons = new CopyCountingList<>();
+        private long version;
+
+        CopyCountingAddressBook(Collection<Person> persons) {
+            this.persons.elements.addAll(persons);
+        }
+
+        void addPerson(Person person) {
+            persons.add(person);
+            version++;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * An observable list that counts the iterations over and copies of the whole list.
+     */
+    private static class CopyCountingList<E> extends ModifiableObservableListBase<E> {
+        private final List<E> elements = new ArrayList<>();
+        private int copyCount;
+
+        @Override
+        public Iterator<E> iterator() {
+            copyCount++;
+            return super.iterator();
+        }
+
+        @Override
+        public Object[] toArray() {
+            copyCount++;
+            return elements.toArray();
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        protected void doAdd(int index, E element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected E doSet(int index, E element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected E doRemove(int index) {
+            return elements.remove(index);
+        }
+    }
 }